@@ -0,0 +1,21 @@
+package com.coupon.api.reactive;
+
+import com.coupon.api.configuration.CouponCacheProperties;
+import com.coupon.api.configuration.CouponHttpCacheProperties;
+import com.coupon.api.service.CouponCodeNormalizer;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+
+// As classes compartilhadas com a coupon-api ficam fora deste pacote e entram explicitamente
+@SpringBootApplication
+@EnableConfigurationProperties({CouponCacheProperties.class, CouponHttpCacheProperties.class})
+@Import(CouponCodeNormalizer.class)
+public class CouponReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(CouponReactiveApplication.class, args);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.coupon.api.reactive.cache;
+
+import com.coupon.api.configuration.CouponCacheProperties;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Cache de leitura do GET por id, com os mesmos limites da coupon-api ({@code coupon.cache.*}),
+ * para que a comparação de carga meça o modelo de execução e não a ausência de cache.
+ *
+ * <p>O carregamento é o próprio {@link Mono} do R2DBC convertido em future: leituras concorrentes
+ * do mesmo id esperam a mesma consulta sem ocupar thread. Ids inexistentes não ficam em cache.</p>
+ */
+@Component
+public class CouponReactiveResponseCache {
+
+    private final AsyncCache<UUID, CouponResponseDTO> cache;
+
+    public CouponReactiveResponseCache(CouponCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .buildAsync();
+    }
+
+    public Mono<CouponResponseDTO> get(UUID id, Function<UUID, Mono<CouponResponseDTO>> loader) {
+        CompletableFuture<CouponResponseDTO> future = cache.get(id, (key, executor) -> loader.apply(key).toFuture());
+        // Cancelar uma requisição não pode cancelar o carregamento que outras estão esperando
+        return Mono.fromFuture(future, true);
+    }
+
+    public void put(CouponResponseDTO response) {
+        cache.put(response.id(), CompletableFuture.completedFuture(response));
+    }
+}
@@ -0,0 +1,76 @@
+package com.coupon.api.reactive.controller;
+
+import com.coupon.api.configuration.CouponHttpCacheProperties;
+import com.coupon.api.controller.CouponETags;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.reactive.service.CouponReactiveService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+// Mesmo contrato JSON do CouponController para create/get/delete, incluindo ETag e If-Match
+@RestController
+@RequestMapping("/coupon")
+@RequiredArgsConstructor
+public class CouponReactiveController {
+
+    private final CouponReactiveService service;
+    private final CouponHttpCacheProperties httpCache;
+
+    @PostMapping
+    public Mono<ResponseEntity<CouponResponseDTO>> create(@RequestBody @Valid CouponRequestDTO request,
+                                                          ServerHttpRequest httpRequest) {
+        return service.create(request).map(response -> {
+            URI location = UriComponentsBuilder.fromUri(httpRequest.getURI())
+                    .path("/{id}")
+                    .buildAndExpand(response.id())
+                    .toUri();
+            return ResponseEntity.created(location).body(response);
+        });
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CouponResponseDTO>> getById(@PathVariable UUID id,
+                                                           @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return service.findById(id).map(response -> conditional(response, ifNoneMatch));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable UUID id,
+                                             @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.delete(id, CouponETags.versionsOf(ifMatch))
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().<Void>build()));
+    }
+
+    private ResponseEntity<CouponResponseDTO> conditional(CouponResponseDTO response, String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(cacheControl());
+        headers.setVary(List.of(HttpHeaders.ACCEPT));
+        if (response.version() != null) {
+            String etag = CouponETags.of(response.version(), null);
+            headers.setETag(etag);
+            if (!CouponETags.noneMatch(ifNoneMatch, etag)) {
+                return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+            }
+        }
+        return new ResponseEntity<>(response, headers, HttpStatus.OK);
+    }
+
+    private CacheControl cacheControl() {
+        return httpCache.maxAge().isZero()
+                ? CacheControl.noCache()
+                : CacheControl.maxAge(httpCache.maxAge()).mustRevalidate();
+    }
+}
@@ -0,0 +1,85 @@
+package com.coupon.api.reactive.controller.advice;
+
+import com.coupon.api.domain.exception.BusinessException;
+import com.coupon.api.domain.exception.ErrorCode;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Mesmos ProblemDetail do {@code GlobalExceptionHandler} da coupon-api (títulos, {@code code},
+ * {@code timestamp} e {@code errors}), para que um cliente não perceba qual variante respondeu.
+ * O switch de status é exaustivo sobre o {@link ErrorCode} compartilhado: um código novo quebra a
+ * compilação aqui até receber o mesmo status das duas variantes.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ProblemDetail handleValidationExceptions(WebExchangeBindException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetail.setTitle("Erro de validação nos dados enviados");
+        problemDetail.setDetail("Um ou mais campos obrigatórios estão inválidos ou ausentes.");
+
+        List<String> errors = ex.getBindingResult()
+                .getAllErrors()
+                .stream()
+                .map(error -> error.getDefaultMessage())
+                .toList();
+
+        problemDetail.setProperty("timestamp", Instant.now());
+        problemDetail.setProperty("errors", errors);
+
+        return problemDetail;
+    }
+
+    @ExceptionHandler(BusinessException.class)
+    public ProblemDetail handleBusinessException(BusinessException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatus(statusFor(ex.getCode()));
+        problemDetail.setTitle("Violação de regra de negócio");
+        problemDetail.setDetail(ex.getMessage());
+        problemDetail.setProperty("code", ex.getCode());
+        problemDetail.setProperty("timestamp", Instant.now());
+
+        return problemDetail;
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ProblemDetail handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        if (ex instanceof DuplicateKeyException) {
+            ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+            problemDetail.setTitle("Conflito de dados");
+            problemDetail.setDetail("Já existe um cupom cadastrado com este código.");
+            problemDetail.setProperty("code", ErrorCode.DUPLICATE_COUPON_CODE);
+            problemDetail.setProperty("timestamp", Instant.now());
+            return problemDetail;
+        }
+
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetail.setTitle("Violação de integridade dos dados");
+        problemDetail.setDetail("Os dados enviados violam uma restrição do banco de dados.");
+        problemDetail.setProperty("timestamp", Instant.now());
+        return problemDetail;
+    }
+
+    static HttpStatus statusFor(ErrorCode code) {
+        return switch (code) {
+            case COUPON_NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case COUPON_ALREADY_REDEEMED, DUPLICATE_COUPON_CODE, COUPON_CONCURRENTLY_MODIFIED,
+                 IDEMPOTENCY_KEY_IN_PROGRESS -> HttpStatus.CONFLICT;
+            case PRECONDITION_FAILED -> HttpStatus.PRECONDITION_FAILED;
+            case IDEMPOTENCY_KEY_REUSED -> HttpStatus.UNPROCESSABLE_ENTITY;
+            case RATE_LIMITED -> HttpStatus.TOO_MANY_REQUESTS;
+            case OVERLOADED -> HttpStatus.SERVICE_UNAVAILABLE;
+            case INVALID_COUPON_CODE, COUPON_ALREADY_DELETED, COUPON_NOT_REDEEMABLE,
+                 INVALID_BATCH, INVALID_CURSOR, BUSINESS_RULE -> HttpStatus.BAD_REQUEST;
+        };
+    }
+}
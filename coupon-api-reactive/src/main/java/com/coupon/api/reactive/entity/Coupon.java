@@ -0,0 +1,43 @@
+package com.coupon.api.reactive.entity;
+
+import com.coupon.api.domain.enums.CouponStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Mesma tabela da entidade JPA; o id vem do serviço e a versão nula marca a linha como nova (INSERT)
+@Table("tb_coupons")
+@Getter
+@Setter
+@NoArgsConstructor
+public class Coupon {
+
+    @Id
+    private UUID id;
+
+    private String code;
+
+    private String description;
+
+    private BigDecimal discountValue;
+
+    private LocalDateTime expirationDate;
+
+    private Boolean published;
+
+    private Boolean redeemed;
+
+    private CouponStatus status;
+
+    private LocalDateTime deletedAt;
+
+    @Version
+    private Long version;
+}
@@ -0,0 +1,11 @@
+package com.coupon.api.reactive.repository;
+
+import com.coupon.api.reactive.entity.Coupon;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface CouponReactiveRepository extends ReactiveCrudRepository<Coupon, UUID> {
+}
@@ -0,0 +1,98 @@
+package com.coupon.api.reactive.service;
+
+import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.domain.exception.CouponErrors;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.reactive.cache.CouponReactiveResponseCache;
+import com.coupon.api.reactive.entity.Coupon;
+import com.coupon.api.reactive.repository.CouponReactiveRepository;
+import com.coupon.api.service.CouponCodeNormalizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Create/get/delete da coupon-api sem bloquear: cada operação é uma cadeia de {@link Mono} sobre o
+ * R2DBC, e nenhuma thread fica parada esperando o banco. As regras e os erros são os mesmos
+ * ({@link CouponCodeNormalizer}, {@link CouponErrors}); ficam de fora o outbox, o arquivo de
+ * deletados e o filtro de Bloom, que dependem da infraestrutura JPA.
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponReactiveService {
+
+    private final CouponReactiveRepository repository;
+    private final CouponReactiveResponseCache cache;
+    private final CouponCodeNormalizer normalizer;
+
+    // Sem consulta prévia: a unicidade do código é decidida pela constraint no INSERT
+    public Mono<CouponResponseDTO> create(CouponRequestDTO request) {
+        return Mono.fromCallable(() -> toEntity(request, normalizer.normalizeAndValidate(request.code())))
+                .flatMap(repository::save)
+                .onErrorMap(DuplicateKeyException.class, ex -> CouponErrors.DUPLICATE_CODE)
+                .map(CouponReactiveService::toResponse)
+                .doOnNext(cache::put);
+    }
+
+    public Mono<CouponResponseDTO> findById(UUID id) {
+        return cache.get(id, key -> repository.findById(key).map(CouponReactiveService::toResponse))
+                .switchIfEmpty(Mono.error(CouponErrors.NOT_FOUND));
+    }
+
+    // expectedVersions vem do If-Match (null = sem precondição), com a mesma ordem de checagens da coupon-api
+    public Mono<Void> delete(UUID id, Set<Long> expectedVersions) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(CouponErrors.NOT_FOUND_BY_ID))
+                .flatMap(coupon -> {
+                    if (expectedVersions != null && !expectedVersions.contains(coupon.getVersion())) {
+                        return Mono.error(CouponErrors.PRECONDITION_FAILED);
+                    }
+                    if (CouponStatus.DELETED.equals(coupon.getStatus())) {
+                        return Mono.error(CouponErrors.ALREADY_DELETED);
+                    }
+                    coupon.setStatus(CouponStatus.DELETED);
+                    coupon.setDeletedAt(LocalDateTime.now());
+                    // UPDATE ... where version = ?: uma alteração entre a leitura e a escrita não é sobrescrita
+                    return repository.save(coupon)
+                            .onErrorMap(OptimisticLockingFailureException.class, ex -> expectedVersions != null
+                                    ? CouponErrors.PRECONDITION_FAILED
+                                    : CouponErrors.CONCURRENTLY_MODIFIED);
+                })
+                .doOnNext(deleted -> cache.put(toResponse(deleted)))
+                .then();
+    }
+
+    private static Coupon toEntity(CouponRequestDTO request, String code) {
+        Coupon coupon = new Coupon();
+        coupon.setId(UUID.randomUUID());
+        coupon.setCode(code);
+        coupon.setDescription(request.description());
+        coupon.setDiscountValue(request.discountValue());
+        coupon.setExpirationDate(request.expirationDate());
+        coupon.setPublished(request.published() != null ? request.published() : false);
+        coupon.setRedeemed(false);
+        coupon.setStatus(CouponStatus.ACTIVE);
+        return coupon;
+    }
+
+    private static CouponResponseDTO toResponse(Coupon coupon) {
+        return new CouponResponseDTO(
+                coupon.getId(),
+                coupon.getCode(),
+                coupon.getDescription(),
+                coupon.getDiscountValue(),
+                coupon.getExpirationDate(),
+                coupon.getPublished(),
+                coupon.getRedeemed(),
+                coupon.getStatus(),
+                coupon.getVersion()
+        );
+    }
+}
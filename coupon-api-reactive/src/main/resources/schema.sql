@@ -0,0 +1,15 @@
+-- tb_coupons como fica após as migrations V1 e V4 da coupon-api (só o que o create/get/delete usa)
+create table if not exists tb_coupons (
+    id              uuid           not null,
+    code            varchar(6)     not null,
+    description     varchar(255)   not null,
+    discount_value  numeric(38, 2) not null,
+    expiration_date timestamp(6)   not null,
+    published       boolean        not null,
+    redeemed        boolean        not null,
+    status          varchar(16)    not null,
+    deleted_at      timestamp(6),
+    version         bigint         default 0 not null,
+    constraint pk_coupons primary key (id),
+    constraint uk_coupons_code unique (code)
+);
@@ -0,0 +1,132 @@
+package com.coupon.api.reactive.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class CouponReactiveControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Test
+    @DisplayName("Deve criar, buscar com ETag e deletar com If-Match sem bloquear")
+    void shouldCreateGetAndDeleteCoupon() {
+        String body = client.post().uri("/coupon")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request("RX@0001"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().exists("Location")
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+        assertNotNull(body);
+        assertEquals("RX0001", JsonPath.read(body, "$.code"));
+        String id = JsonPath.read(body, "$.id");
+
+        client.get().uri("/coupon/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"0\"")
+                .expectHeader().valueEquals("Cache-Control", "no-cache")
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("ACTIVE")
+                .jsonPath("$.version").doesNotExist();
+
+        client.get().uri("/coupon/{id}", id)
+                .header("If-None-Match", "\"0\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        client.delete().uri("/coupon/{id}", id)
+                .header("If-Match", "\"7\"")
+                .exchange()
+                .expectStatus().isEqualTo(412)
+                .expectBody().jsonPath("$.code").isEqualTo("PRECONDITION_FAILED");
+
+        client.delete().uri("/coupon/{id}", id)
+                .header("If-Match", "\"0\"")
+                .exchange()
+                .expectStatus().isNoContent();
+
+        client.get().uri("/coupon/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"1\"")
+                .expectBody().jsonPath("$.status").isEqualTo("DELETED");
+
+        client.delete().uri("/coupon/{id}", id)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.code").isEqualTo("COUPON_ALREADY_DELETED");
+    }
+
+    @Test
+    @DisplayName("Deve manter os ProblemDetail de validação, duplicidade e 404 da API bloqueante")
+    void shouldKeepProblemDetailSemantics() {
+        client.post().uri("/coupon")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {
+                            "code": "RX0002",
+                            "description": "",
+                            "discountValue": 0.1,
+                            "expirationDate": "2030-01-01T12:00:00.000Z"
+                        }
+                        """)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Erro de validação nos dados enviados")
+                .jsonPath("$.errors.length()").isEqualTo(2);
+
+        client.post().uri("/coupon")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request("RX@@3"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.code").isEqualTo("INVALID_COUPON_CODE");
+
+        client.post().uri("/coupon")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request("RX0004"))
+                .exchange()
+                .expectStatus().isCreated();
+        client.post().uri("/coupon")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request("rx-0004"))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody().jsonPath("$.code").isEqualTo("DUPLICATE_COUPON_CODE");
+
+        client.get().uri("/coupon/{id}", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.code").isEqualTo("COUPON_NOT_FOUND");
+    }
+
+    private static String request(String code) {
+        return """
+                {
+                    "code": "%s",
+                    "description": "Cupom reativo",
+                    "discountValue": 10.5,
+                    "expirationDate": "2030-01-01T12:00:00.000Z",
+                    "published": true
+                }
+                """.formatted(code);
+    }
+}
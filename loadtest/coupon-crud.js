@@ -0,0 +1,75 @@
+// Cenário compartilhado entre a coupon-api (Tomcat + JPA) e a coupon-api-reactive (WebFlux + R2DBC):
+// cada VU mantém a sua conexão keep-alive aberta, então VUS=10000 são 10 mil conexões simultâneas.
+// Cada iteração cria um cupom, lê GETS vezes (metade com If-None-Match) e deleta com If-Match.
+//
+//   k6 run loadtest/coupon-crud.js
+//   k6 run -e BASE_URL=http://localhost:8081 -e VUS=10000 -e DURATION=2m loadtest/coupon-crud.js
+//
+// Com 10 mil conexões o k6 e a aplicação precisam de `ulimit -n` acima disso. A comparação
+// completa (vazão, latência e pico de RSS das duas variantes) fica em scripts/compare-reactive.sh.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const GETS = Number(__ENV.GETS || 8);
+const CODE_SPACE = Math.pow(36, 6);
+// Códigos por VU: com 10 mil VUs o espaço de 6 caracteres comporta 200 mil iterações em cada um
+const CODES_PER_VU = 200000;
+
+export const options = {
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    scenarios: {
+        crud: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: __ENV.RAMP || '30s', target: Number(__ENV.VUS || 10000) },
+                { duration: __ENV.DURATION || '1m', target: Number(__ENV.VUS || 10000) },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+// Deslocamento sorteado por execução: rodadas repetidas contra o mesmo banco não colidem nos códigos
+export function setup() {
+    return { offset: Math.floor(Math.random() * CODE_SPACE) };
+}
+
+function code(offset) {
+    const sequence = (offset + (__VU - 1) * CODES_PER_VU + __ITER) % CODE_SPACE;
+    return sequence.toString(36).toUpperCase().padStart(6, '0');
+}
+
+export default function (data) {
+    const created = http.post(`${BASE_URL}/coupon`, JSON.stringify({
+        code: code(data.offset),
+        description: 'Cupom de teste de carga',
+        discountValue: 10,
+        expirationDate: '2035-01-01T00:00:00.000Z',
+        published: true,
+    }), { headers: JSON_HEADERS, tags: { name: 'POST /coupon' } });
+    if (!check(created, { 'create 201': (r) => r.status === 201 })) {
+        return;
+    }
+
+    const url = `${BASE_URL}/coupon/${created.json('id')}`;
+    let etag = null;
+    for (let i = 0; i < GETS; i++) {
+        const conditional = etag !== null && i % 2 === 1;
+        const response = http.get(url, {
+            headers: conditional ? { 'If-None-Match': etag } : {},
+            tags: { name: conditional ? 'GET /coupon/{id} (If-None-Match)' : 'GET /coupon/{id}' },
+        });
+        check(response, { 'get 200/304': (r) => r.status === (conditional ? 304 : 200) });
+        etag = response.headers['Etag'] || etag;
+    }
+
+    const deleted = http.del(url, null, {
+        headers: etag !== null ? { 'If-Match': etag } : {},
+        tags: { name: 'DELETE /coupon/{id}' },
+    });
+    check(deleted, { 'delete 204': (r) => r.status === 204 });
+}
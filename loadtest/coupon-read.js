@@ -0,0 +1,57 @@
+// Carga de leitura (GET /coupon/{id}) com uma parcela de criações, para comparar execuções
+// com threads de plataforma e com threads virtuais.
+//
+//   k6 run loadtest/coupon-read.js
+//   k6 run -e BASE_URL=http://localhost:8080 -e RATE=3000 -e DURATION=2m loadtest/coupon-read.js
+//
+// Todas as requisições saem do mesmo endereço: suba a aplicação com o rate limit desligado
+// (coupon.rate-limit.enabled=false, o padrão), senão o token bucket corta a leitura em 200 req/s.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SEED_COUPONS = Number(__ENV.SEED_COUPONS || 1000);
+
+export const options = {
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    scenarios: {
+        reads: {
+            executor: 'constant-arrival-rate',
+            rate: Number(__ENV.RATE || 2000),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '1m',
+            preAllocatedVUs: Number(__ENV.VUS || 500),
+            maxVUs: Number(__ENV.MAX_VUS || 5000),
+        },
+    },
+};
+
+function code(index) {
+    return ('LT' + index.toString(36).toUpperCase().padStart(4, '0')).slice(0, 6);
+}
+
+export function setup() {
+    const coupons = [];
+    for (let i = 0; i < SEED_COUPONS; i++) {
+        coupons.push({
+            code: code(i),
+            description: 'Cupom de teste de carga',
+            discountValue: 10,
+            expirationDate: '2035-01-01T00:00:00.000Z',
+            published: true,
+        });
+    }
+    const response = http.post(`${BASE_URL}/coupon/batch`, JSON.stringify(coupons), {
+        headers: { 'Content-Type': 'application/json' },
+    });
+    // Execuções repetidas reaproveitam os cupons já existentes
+    const created = response.json('items').filter((item) => item.id).map((item) => item.id);
+    const existing = http.get(`${BASE_URL}/coupon?size=500`).json('items').map((item) => item.id);
+    return { ids: created.concat(existing) };
+}
+
+export default function (data) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const response = http.get(`${BASE_URL}/coupon/${id}`);
+    check(response, { 'status 200': (r) => r.status === 200 });
+}
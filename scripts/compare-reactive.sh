@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+# Compara a coupon-api (Tomcat + JPA) com a coupon-api-reactive (WebFlux + R2DBC) sob o mesmo
+# cenário k6 (loadtest/coupon-crud.js): vazão, p99, threads vivas e pico de RSS do processo.
+#
+#   scripts/compare-reactive.sh                    # build + 10 mil conexões por 1 minuto
+#   VUS=2000 DURATION=30s SKIP_BUILD=1 scripts/compare-reactive.sh
+#
+# As duas variantes rodam com o mesmo heap (JAVA_OPTS), o mesmo H2 em memória e 10 conexões de
+# banco. Na coupon-api o rate limit é desligado (todo o tráfego vem de um único cliente) e o
+# Tomcat aceita mais conexões que o padrão de 8192; as 200 threads de requisição continuam as
+# padrão, que é justamente o limite que a variante reativa não tem.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-18080}
+VUS=${VUS:-10000}
+DURATION=${DURATION:-1m}
+JAVA_OPTS=${JAVA_OPTS:-"-Xms1g -Xmx1g"}
+OUT=${OUT:-target/compare-reactive}
+
+ulimit -n "$(( VUS * 2 + 1024 ))" 2>/dev/null || echo "aviso: não foi possível subir o ulimit -n" >&2
+
+if [[ -z "${SKIP_BUILD:-}" ]]; then
+    ./mvnw -q -B package -DskipTests
+    ./mvnw -q -B -f coupon-api-reactive/pom.xml package -DskipTests
+fi
+
+mkdir -p "$OUT"
+blocking_jar=$(ls target/coupon-api-*.jar | grep -v plain | head -1)
+reactive_jar=$(ls coupon-api-reactive/target/coupon-api-reactive-*.jar | grep -v plain | head -1)
+VARIANTS=(
+    "blocking:$blocking_jar:--coupon.rate-limit.enabled=false --server.tomcat.max-connections=$(( VUS + 2000 ))"
+    "reactive:$reactive_jar:"
+)
+
+printf '%-9s %10s %10s %10s %8s %10s\n' variant req_s p99_ms failed threads peak_rss
+for entry in "${VARIANTS[@]}"; do
+    IFS=: read -r name jar args <<< "$entry"
+    # shellcheck disable=SC2086
+    java $JAVA_OPTS -jar "$jar" --server.port="$PORT" $args > "$OUT/$name.log" 2>&1 &
+    pid=$!
+    until curl -fs "http://localhost:$PORT/actuator/health" >/dev/null 2>&1; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "$name não subiu, ver $OUT/$name.log" >&2
+            exit 1
+        fi
+        sleep 0.2
+    done
+
+    # Pico de RSS amostrado a cada segundo durante a carga
+    ( peak=0
+      while kill -0 "$pid" 2>/dev/null; do
+          rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+          (( ${rss:-0} > peak )) && peak=$rss && echo "$peak" > "$OUT/$name.rss"
+          sleep 1
+      done ) &
+    sampler=$!
+
+    k6 run -q -e BASE_URL="http://localhost:$PORT" -e VUS="$VUS" -e DURATION="$DURATION" \
+        --summary-export "$OUT/$name.json" loadtest/coupon-crud.js > "$OUT/$name.k6.txt" 2>&1 || true
+    threads=$(curl -fs "http://localhost:$PORT/actuator/metrics/jvm.threads.peak" | sed -n 's/.*"value":\([0-9.]*\).*/\1/p')
+
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    kill "$sampler" 2>/dev/null || true
+
+    rate=$(jq -r '.metrics.http_reqs.rate | floor' "$OUT/$name.json")
+    p99=$(jq -r '.metrics.http_req_duration["p(99)"] | . * 10 | floor / 10' "$OUT/$name.json")
+    failed=$(jq -r '.metrics.http_req_failed.value * 100 | . * 100 | floor / 100 | tostring + "%"' "$OUT/$name.json")
+    peak_kb=$(cat "$OUT/$name.rss" 2>/dev/null || echo 0)
+    printf '%-9s %10s %10s %10s %8s %9sM\n' "$name" "$rate" "$p99" "$failed" "${threads%.*}" "$(( peak_kb / 1024 ))"
+done
@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+# Mede tempo até a readiness e RSS de cada imagem (jar atual, AOT + CDS e nativa).
+#
+#   scripts/measure-startup.sh            # build + 5 execuções por imagem
+#   RUNS=10 SKIP_BUILD=1 scripts/measure-startup.sh
+#
+# Cada execução sobe um container novo com o profile prod em H2 de memória e o warm-up
+# desligado (COUPON_WARMUP_REQUESTS=0), para medir só a inicialização. "started" é o tempo
+# informado pelo Spring no log; "ready" é o tempo de parede do docker run até
+# /actuator/health/readiness responder 200; RSS é o uso de memória do container logo depois.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+IMAGES=("jar:Dockerfile" "cds:Dockerfile.cds" "native:Dockerfile.native")
+
+now_ms() { date +%s%3N; }
+
+if [[ -z "${SKIP_BUILD:-}" ]]; then
+    for entry in "${IMAGES[@]}"; do
+        docker build -q -f "${entry#*:}" -t "coupon-api:${entry%%:*}" . >/dev/null
+    done
+fi
+
+printf '%-8s %-4s %12s %10s %10s\n' image run started_s ready_ms rss
+for entry in "${IMAGES[@]}"; do
+    tag=${entry%%:*}
+    for run in $(seq 1 "$RUNS"); do
+        start=$(now_ms)
+        container=$(docker run -d -p "$PORT:8080" \
+            -e SPRING_PROFILES_ACTIVE=prod \
+            -e COUPON_DB_URL=jdbc:h2:mem:coupondb \
+            -e COUPON_WARMUP_REQUESTS=0 \
+            "coupon-api:$tag")
+        until curl -fs "http://localhost:$PORT/actuator/health/readiness" >/dev/null 2>&1; do
+            if [[ $(( $(now_ms) - start )) -gt 120000 ]]; then
+                echo "timeout esperando $tag" >&2
+                docker logs "$container" >&2
+                docker rm -f "$container" >/dev/null
+                exit 1
+            fi
+            sleep 0.05
+        done
+        ready=$(( $(now_ms) - start ))
+        rss=$(docker stats --no-stream --format '{{.MemUsage}}' "$container" | cut -d/ -f1)
+        started=$(docker logs "$container" 2>&1 | sed -n 's/.*Started CouponApiApplication in \([0-9.]*\) seconds.*/\1/p')
+        docker rm -f "$container" >/dev/null
+        printf '%-8s %-4s %12s %10s %10s\n' "$tag" "$run" "${started:-?}" "$ready" "$rss"
+    done
+done
@@ -0,0 +1,65 @@
+package com.coupon.api.benchmark;
+
+import com.coupon.api.controller.advice.GlobalExceptionHandler;
+import com.coupon.api.domain.exception.BusinessException;
+import com.coupon.api.domain.exception.CouponErrors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de um 404 no caminho quente: exceção nova com stack trace + status por comparação de
+ * mensagem (comportamento anterior) versus exceção pré-alocada sem stack trace + status pelo código.
+ * O parâmetro {@code depth} simula a profundidade da pilha do Spring MVC no momento do lançamento.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusinessExceptionBenchmark {
+
+    @Param({"16", "128"})
+    public int depth;
+
+    @Benchmark
+    public HttpStatus messageMatchingWithStackTrace() {
+        try {
+            throwAt(depth, true);
+            return HttpStatus.OK;
+        } catch (BusinessException ex) {
+            return ex.getMessage().toLowerCase().contains("não encontrado")
+                    ? HttpStatus.NOT_FOUND
+                    : HttpStatus.BAD_REQUEST;
+        }
+    }
+
+    @Benchmark
+    public HttpStatus typedCodeStackless() {
+        try {
+            throwAt(depth, false);
+            return HttpStatus.OK;
+        } catch (BusinessException ex) {
+            return GlobalExceptionHandler.statusFor(ex.getCode());
+        }
+    }
+
+    private static void throwAt(int remaining, boolean legacy) {
+        if (remaining > 0) {
+            throwAt(remaining - 1, legacy);
+            return;
+        }
+        throw legacy ? new BusinessException("Cupom não encontrado.") : CouponErrors.NOT_FOUND;
+    }
+}
@@ -0,0 +1,58 @@
+package com.coupon.api.benchmark;
+
+import com.coupon.api.cache.CouponCodeBloomFilter;
+import com.coupon.api.cache.CouponCodeIndex;
+import com.coupon.api.configuration.CouponBloomFilterProperties;
+import com.coupon.api.service.CouponCodePermutation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Custo por código gerado, sem a reserva de blocos (uma ida ao banco a cada 10 mil códigos)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponCodeGeneratorBenchmark {
+
+    private static final long CODE_SPACE = 2_176_782_336L;
+
+    private final CouponCodePermutation permutation = new CouponCodePermutation(CODE_SPACE, "benchmark");
+    private CouponCodeBloomFilter bloomFilter;
+    private long counter;
+
+    @Setup
+    public void setUp() {
+        bloomFilter = new CouponCodeBloomFilter(new CouponBloomFilterProperties(1_000_000, 0.01));
+        for (int i = 0; i < 1_000_000; i++) {
+            bloomFilter.put(CouponCodeIndex.unpack(i * 2_003));
+        }
+    }
+
+    @Benchmark
+    public long permute() {
+        counter = (counter + 1) % CODE_SPACE;
+        return permutation.permute(counter);
+    }
+
+    @Benchmark
+    public String nextCode() {
+        String code;
+        do {
+            counter = (counter + 1) % CODE_SPACE;
+            code = CouponCodeIndex.unpack((int) permutation.permute(counter));
+        } while (bloomFilter.mightContain(code));
+        return code;
+    }
+}
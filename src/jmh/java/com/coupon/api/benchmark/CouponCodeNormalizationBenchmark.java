@@ -0,0 +1,45 @@
+package com.coupon.api.benchmark;
+
+import com.coupon.api.service.CouponCodeNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponCodeNormalizationBenchmark {
+
+    private final CouponCodeNormalizer normalizer = new CouponCodeNormalizer();
+
+    @Param({"ABC123", "a@b#c$123", "  promo-2025  "})
+    public String code;
+
+    // Implementação anterior do CouponService, mantida como referência
+    @Benchmark
+    public String regex() {
+        return code.replaceAll("[^a-zA-Z0-9]", "").toUpperCase();
+    }
+
+    @Benchmark
+    public String normalize() {
+        return normalizer.normalize(code);
+    }
+
+    @Benchmark
+    public int normalizeToPacked() {
+        return normalizer.normalizeToPacked(code);
+    }
+}
@@ -0,0 +1,94 @@
+package com.coupon.api.benchmark;
+
+import com.coupon.api.CouponApiApplication;
+import com.coupon.api.cache.CouponResponseCache;
+import com.coupon.api.dto.CouponBatchItemResultDTO;
+import com.coupon.api.dto.CouponEvaluateRequestDTO;
+import com.coupon.api.dto.CouponEvaluateResponseDTO;
+import com.coupon.api.dto.CouponGenerateRequestDTO;
+import com.coupon.api.service.CouponBatchService;
+import com.coupon.api.service.CouponEvaluationService;
+import com.coupon.api.service.CouponService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Carrinho de 50 códigos contra 10 mil cupons no H2; SampleTime para ler o p99 direto no resultado
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CouponEvaluationBenchmark {
+
+    private static final int CART_SIZE = 50;
+
+    private ConfigurableApplicationContext context;
+    private CouponEvaluationService evaluationService;
+    private CouponResponseCache cache;
+    private CouponEvaluateRequestDTO cart;
+    private List<UUID> cartIds;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(CouponApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--logging.level.root=WARN", "--spring.jpa.show-sql=false", "--coupon.outbox.enabled=false");
+        evaluationService = context.getBean(CouponEvaluationService.class);
+        cache = context.getBean(CouponResponseCache.class);
+
+        List<CouponBatchItemResultDTO> created = context.getBean(CouponBatchService.class).generate(new CouponGenerateRequestDTO(
+                10_000, "Cupom de benchmark", new BigDecimal("10.50"), LocalDateTime.now().plusYears(1), true)).items();
+        List<CouponBatchItemResultDTO> sample = created.subList(0, CART_SIZE * 100).stream()
+                .filter(item -> item.index() % 100 == 0)
+                .toList();
+        cart = new CouponEvaluateRequestDTO(sample.stream().map(CouponBatchItemResultDTO::code).toList(), null);
+        cartIds = sample.stream().map(CouponBatchItemResultDTO::id).toList();
+
+        CouponService service = context.getBean(CouponService.class);
+        cartIds.forEach(service::findById);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CouponEvaluateResponseDTO evaluateCached() {
+        return evaluationService.evaluate(cart);
+    }
+
+    @State(Scope.Thread)
+    public static class ColdCache {
+
+        @Setup(Level.Invocation)
+        public void evict(CouponEvaluationBenchmark benchmark) {
+            benchmark.cartIds.forEach(benchmark.cache::evict);
+        }
+    }
+
+    @Benchmark
+    public CouponEvaluateResponseDTO evaluateUncached(ColdCache coldCache) {
+        return evaluationService.evaluate(cart);
+    }
+}
@@ -0,0 +1,67 @@
+package com.coupon.api.benchmark;
+
+import com.coupon.api.CouponApiApplication;
+import com.coupon.api.cache.CouponCodeIndex;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.service.CouponService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Fluxo create -> get -> delete contra o H2 em memória, com o contexto Spring completo (sem a camada HTTP)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CouponFlowBenchmark {
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private ConfigurableApplicationContext context;
+    private CouponService service;
+    private LocalDateTime expiration;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(CouponApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--logging.level.root=WARN", "--spring.jpa.show-sql=false");
+        service = context.getBean(CouponService.class);
+        expiration = LocalDateTime.now().plusYears(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CouponResponseDTO createGetDelete() {
+        // Cada operação usa um código novo para não esbarrar na restrição de unicidade
+        String code = CouponCodeIndex.unpack(sequence.getAndIncrement());
+        CouponResponseDTO created = service.create(
+                new CouponRequestDTO(code, "Cupom de benchmark", new BigDecimal("10.50"), expiration, true));
+        CouponResponseDTO found = service.findById(created.id());
+        service.delete(created.id());
+        return found;
+    }
+}
@@ -0,0 +1,64 @@
+package com.coupon.api.benchmark;
+
+import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Serialização com o mesmo ObjectMapper base do Spring MVC, incluindo o @JsonFormat das datas
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponJsonBenchmark {
+
+    private ObjectWriter responseWriter;
+    private ObjectReader requestReader;
+    private CouponResponseDTO response;
+    private byte[] requestJson;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        responseWriter = objectMapper.writerFor(CouponResponseDTO.class);
+        requestReader = objectMapper.readerFor(CouponRequestDTO.class);
+
+        response = new CouponResponseDTO(UUID.randomUUID(), "ABC123", "Cupom de benchmark", new BigDecimal("10.50"),
+                LocalDateTime.of(2030, 1, 1, 12, 0), true, false, CouponStatus.ACTIVE);
+        requestJson = """
+                {"code":"ABC123","description":"Cupom de benchmark","discountValue":10.5,\
+                "expirationDate":"2030-01-01T12:00:00.000Z","published":true}""".getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public CouponRequestDTO deserializeRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+}
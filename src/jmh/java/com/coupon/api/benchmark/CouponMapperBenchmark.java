@@ -0,0 +1,56 @@
+package com.coupon.api.benchmark;
+
+import com.coupon.api.domain.entity.Coupon;
+import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.mapper.CouponMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponMapperBenchmark {
+
+    private final CouponMapper mapper = new CouponMapper();
+    private CouponRequestDTO request;
+    private Coupon coupon;
+
+    @Setup
+    public void setup() {
+        LocalDateTime expiration = LocalDateTime.of(2030, 1, 1, 12, 0);
+        request = new CouponRequestDTO("ABC123", "Cupom de benchmark", new BigDecimal("10.50"), expiration, true);
+
+        coupon = mapper.toEntity(request);
+        coupon.setId(UUID.randomUUID());
+        coupon.setCode("ABC123");
+        coupon.setStatus(CouponStatus.ACTIVE);
+    }
+
+    @Benchmark
+    public Coupon toEntity() {
+        return mapper.toEntity(request);
+    }
+
+    @Benchmark
+    public CouponResponseDTO toResponse() {
+        return mapper.toResponse(coupon);
+    }
+}
@@ -0,0 +1,76 @@
+package com.coupon.api.benchmark;
+
+import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de produzir o corpo do GET /coupon/{id} em cada formato: serializando a cada chamada
+ * ({@code serialize}) ou copiando os bytes guardados na entrada do cache ({@code preSerialized}).
+ * O tamanho de cada formato, em bytes por resposta, é impresso no início da execução.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponWireFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectWriter writer;
+    private CouponResponseDTO response;
+    private byte[] cached;
+
+    @Setup
+    public void setup() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory());
+            case "smile" -> builder.factory(new SmileFactory());
+            default -> { }
+        }
+        writer = builder.build().writerFor(CouponResponseDTO.class);
+
+        response = new CouponResponseDTO(UUID.randomUUID(), "ABC123", "Cupom de benchmark", new BigDecimal("10.50"),
+                LocalDateTime.of(2030, 1, 1, 12, 0), true, false, CouponStatus.ACTIVE);
+        cached = writer.writeValueAsBytes(response);
+        System.out.printf("%n%s: %d bytes por resposta%n", format, cached.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    // O servlet copia o array para o buffer de saída; é o único custo que sobra com bytes em cache
+    @Benchmark
+    public void preSerialized(Blackhole blackhole) {
+        byte[] out = new byte[cached.length];
+        System.arraycopy(cached, 0, out, 0, cached.length);
+        blackhole.consume(out);
+    }
+}
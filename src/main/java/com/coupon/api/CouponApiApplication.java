@@ -1,9 +1,14 @@
 package com.coupon.api;
 
+import com.coupon.api.configuration.CouponRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@ImportRuntimeHints(CouponRuntimeHints.class)
 public class CouponApiApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,87 @@
+package com.coupon.api.cache;
+
+import com.coupon.api.configuration.CouponBloomFilterProperties;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Filtro de Bloom sobre os códigos já gravados na tabela quente, inclusive os deletados ainda
+ * não arquivados (a unicidade no banco também vale para eles). Um "não contém" é definitivo e
+ * dispensa a consulta de existência antes do INSERT; um "talvez contenha" cai na consulta ao banco.
+ *
+ * <p>Não há remoção, e o tamanho é fixado na inicialização: passar de
+ * {@code expectedInsertions} só aumenta a taxa de falsos positivos, ou seja, mais consultas ao
+ * banco, nunca uma resposta errada. Pelo mesmo motivo, o código de um cupom arquivado, que volta
+ * a ficar livre, continua marcado aqui e só custa uma consulta a mais quando for reutilizado.
+ * Os bits são gravados com OR atômico, sem locks.</p>
+ */
+@Component
+public class CouponCodeBloomFilter {
+
+    private static final VarHandle BITS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public CouponCodeBloomFilter(CouponBloomFilterProperties properties) {
+        long expected = Math.max(1, properties.expectedInsertions());
+        double rate = properties.falsePositiveRate();
+        if (!(rate > 0 && rate < 1)) {
+            throw new IllegalArgumentException("coupon.bloom-filter.false-positive-rate deve estar entre 0 e 1.");
+        }
+        // m = -n ln(p) / ln(2)^2 e k = (m / n) ln(2), arredondando m para palavras de 64 bits
+        long bits = (long) Math.ceil(-expected * Math.log(rate) / (Math.log(2) * Math.log(2)));
+        this.words = new long[Math.toIntExact(Math.max(1, (bits + 63) >>> 6))];
+        this.bitCount = (long) words.length << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+    }
+
+    public boolean mightContain(String code) {
+        int packed = CouponCodeIndex.pack(code);
+        if (packed == CouponCodeIndex.INVALID) {
+            return true;
+        }
+        long hash1 = mix(packed);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+            long word = (long) BITS.getAcquire(words, (int) (bit >>> 6));
+            if ((word & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(String code) {
+        int packed = CouponCodeIndex.pack(code);
+        if (packed == CouponCodeIndex.INVALID) {
+            return;
+        }
+        long hash1 = mix(packed);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+            BITS.getAndBitwiseOrRelease(words, (int) (bit >>> 6), 1L << bit);
+        }
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    // Finalizador do SplitMix64: espalha os códigos sequenciais por todo o vetor de bits
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,216 @@
+package com.coupon.api.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Índice em memória código → id dos cupons vivos (não deletados).
+ *
+ * <p>Todo código normalizado tem 6 caracteres de [A-Z0-9], então cabe em um inteiro base 36
+ * (36^6 &lt; 2^32, interpretado como unsigned). O mapa usa endereçamento aberto sobre arrays
+ * primitivos, sem boxing nem um objeto {@code String} por entrada. Leituras são otimistas e só
+ * tomam o lock de leitura quando coincidem com uma escrita.</p>
+ */
+@Component
+public class CouponCodeIndex {
+
+    public static final int INVALID = -1;
+
+    private static final int CODE_LENGTH = 6;
+    private static final int RADIX = 36;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+    private int size;
+
+    /**
+     * Converte um código já normalizado para a forma compacta, ou {@link #INVALID} se ele não
+     * tiver exatamente 6 caracteres de [A-Z0-9].
+     */
+    public static int pack(String code) {
+        if (code == null || code.length() != CODE_LENGTH) {
+            return INVALID;
+        }
+        int packed = 0;
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            int digit = digit(code.charAt(i));
+            if (digit < 0) {
+                return INVALID;
+            }
+            packed = packed * RADIX + digit;
+        }
+        return packed;
+    }
+
+    public static String unpack(int packed) {
+        char[] chars = new char[CODE_LENGTH];
+        long value = Integer.toUnsignedLong(packed);
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            int digit = (int) (value % RADIX);
+            chars[i] = (char) (digit < 10 ? '0' + digit : 'A' + digit - 10);
+            value /= RADIX;
+        }
+        return new String(chars);
+    }
+
+    public Optional<UUID> get(String code) {
+        int packed = pack(code);
+        if (packed == INVALID) {
+            return Optional.empty();
+        }
+
+        long stamp = lock.tryOptimisticRead();
+        UUID id = table.find(packed);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                id = table.find(packed);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return Optional.ofNullable(id);
+    }
+
+    public void put(String code, UUID id) {
+        int packed = pack(code);
+        if (packed == INVALID) {
+            return;
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            if (table.insert(packed, id)) {
+                size++;
+                if (size * 2 > table.capacity()) {
+                    table = table.resize(table.capacity() * 2);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(String code) {
+        int packed = pack(code);
+        if (packed == INVALID) {
+            return;
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            if (table.delete(packed)) {
+                size--;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'A' && c <= 'Z') return c - 'A' + 10;
+        return -1;
+    }
+
+    private static final class Table {
+
+        private final int[] keys;
+        private final long[] mostSignificant;
+        private final long[] leastSignificant;
+        private final int mask;
+
+        Table(int capacity) {
+            keys = new int[capacity];
+            mostSignificant = new long[capacity];
+            leastSignificant = new long[capacity];
+            mask = capacity - 1;
+            Arrays.fill(keys, INVALID);
+        }
+
+        int capacity() {
+            return keys.length;
+        }
+
+        // Limitado à capacidade: uma leitura otimista concorrente pode ver a tabela pela metade
+        UUID find(int key) {
+            int slot = slot(key);
+            for (int probes = 0; probes < keys.length; probes++) {
+                int current = keys[slot];
+                if (current == INVALID) return null;
+                if (current == key) return new UUID(mostSignificant[slot], leastSignificant[slot]);
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        boolean insert(int key, UUID id) {
+            int slot = slot(key);
+            boolean added = true;
+            while (keys[slot] != INVALID) {
+                if (keys[slot] == key) {
+                    added = false;
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            mostSignificant[slot] = id.getMostSignificantBits();
+            leastSignificant[slot] = id.getLeastSignificantBits();
+            keys[slot] = key;
+            return added;
+        }
+
+        // Remoção com deslocamento para trás, mantendo as sequências de sondagem sem lápides
+        boolean delete(int key) {
+            int slot = slot(key);
+            while (keys[slot] != key) {
+                if (keys[slot] == INVALID) return false;
+                slot = (slot + 1) & mask;
+            }
+
+            int hole = slot;
+            int next = (hole + 1) & mask;
+            while (keys[next] != INVALID) {
+                int home = slot(keys[next]);
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    mostSignificant[hole] = mostSignificant[next];
+                    leastSignificant[hole] = leastSignificant[next];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[hole] = INVALID;
+            return true;
+        }
+
+        Table resize(int capacity) {
+            Table resized = new Table(capacity);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != INVALID) {
+                    resized.insert(keys[i], new UUID(mostSignificant[i], leastSignificant[i]));
+                }
+            }
+            return resized;
+        }
+
+        private int slot(int key) {
+            int hash = key * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.coupon.api.cache;
+
+import com.coupon.api.configuration.CouponCacheProperties;
+import com.coupon.api.domain.enums.WireFormat;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+@Component
+public class CouponResponseCache {
+
+    private final AsyncCache<UUID, Entry> cache;
+
+    public CouponResponseCache(CouponCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(new TtlExpiry(properties.ttl().toNanos(), properties.negativeTtl().toNanos()))
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Retorna o DTO em cache ou carrega pelo {@code loader}. Ids inexistentes também ficam em cache
+     * (por um TTL menor) para que varreduras de 404 não cheguem ao banco.
+     *
+     * <p>O carregamento roda na thread chamadora e fora dos locks do mapa: o {@code compute} do
+     * Caffeine segura um {@code synchronized} durante o acesso ao banco, o que prenderia a thread
+     * portadora com threads virtuais. Chamadas concorrentes para o mesmo id esperam o mesmo future,
+     * e um {@link #evict(UUID)} durante o carregamento descarta o valor em vez de guardá-lo.</p>
+     */
+    public Optional<CouponResponseDTO> get(UUID id, Function<UUID, Optional<CouponResponseDTO>> loader) {
+        return Optional.ofNullable(entry(id, loader).response);
+    }
+
+    /**
+     * Como {@link #get}, mas devolve também a resposta serializada no formato pedido. A serialização
+     * acontece uma vez por entrada e formato, e só quando {@link Encoded#bytes()} é chamado (um 304
+     * decidido pela versão não serializa nada); as leituras seguintes só copiam os bytes para a
+     * resposta. Uma atualização do cupom troca a entrada inteira e descarta os bytes antigos.
+     */
+    public Optional<Encoded> getEncoded(UUID id, Function<UUID, Optional<CouponResponseDTO>> loader,
+                                        WireFormat format, Function<CouponResponseDTO, byte[]> encoder) {
+        Entry entry = entry(id, loader);
+        return entry.response == null ? Optional.empty() : Optional.of(new Encoded(entry, format, encoder));
+    }
+
+    /**
+     * Consulta sem carregar: devolve o DTO só se já estiver em cache e pronto. Ids ausentes,
+     * ainda carregando ou em cache negativo retornam {@code null}, e quem chamou decide como buscar.
+     */
+    public CouponResponseDTO peek(UUID id) {
+        CompletableFuture<Entry> cached = cache.getIfPresent(id);
+        if (cached == null || !cached.isDone() || cached.isCompletedExceptionally()) {
+            return null;
+        }
+        return cached.join().response;
+    }
+
+    public void put(CouponResponseDTO response) {
+        cache.put(response.id(), CompletableFuture.completedFuture(new Entry(response)));
+    }
+
+    public void evict(UUID id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    public long estimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    private Entry entry(UUID id, Function<UUID, Optional<CouponResponseDTO>> loader) {
+        CompletableFuture<Entry> cached = cache.getIfPresent(id);
+        if (cached == null) {
+            CompletableFuture<Entry> loading = new CompletableFuture<>();
+            cached = cache.asMap().putIfAbsent(id, loading);
+            if (cached == null) {
+                return load(id, loader, loading);
+            }
+        }
+        return await(cached);
+    }
+
+    private Entry load(UUID id, Function<UUID, Optional<CouponResponseDTO>> loader, CompletableFuture<Entry> loading) {
+        try {
+            Entry entry = new Entry(loader.apply(id).orElse(null));
+            loading.complete(entry);
+            return entry;
+        } catch (RuntimeException | Error ex) {
+            cache.asMap().remove(id, loading);
+            loading.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    private static Entry await(CompletableFuture<Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public static final class Encoded {
+
+        private final Entry entry;
+        private final WireFormat format;
+        private final Function<CouponResponseDTO, byte[]> encoder;
+
+        private Encoded(Entry entry, WireFormat format, Function<CouponResponseDTO, byte[]> encoder) {
+            this.entry = entry;
+            this.format = format;
+            this.encoder = encoder;
+        }
+
+        public CouponResponseDTO response() {
+            return entry.response;
+        }
+
+        public byte[] bytes() {
+            byte[] encoded = entry.encoded.get(format.ordinal());
+            if (encoded == null) {
+                // Corrida aqui só serializa duas vezes o mesmo valor
+                encoded = encoder.apply(entry.response);
+                entry.encoded.set(format.ordinal(), encoded);
+            }
+            return encoded;
+        }
+    }
+
+    private static final class Entry {
+
+        private final CouponResponseDTO response;
+        private final AtomicReferenceArray<byte[]> encoded = new AtomicReferenceArray<>(WireFormat.values().length);
+
+        private Entry(CouponResponseDTO response) {
+            this.response = response;
+        }
+    }
+
+    private record TtlExpiry(long ttlNanos, long negativeTtlNanos) implements Expiry<UUID, Entry> {
+
+        @Override
+        public long expireAfterCreate(UUID key, Entry value, long currentTime) {
+            return value.response == null ? negativeTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID key, Entry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
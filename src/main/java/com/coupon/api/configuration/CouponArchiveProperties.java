@@ -0,0 +1,15 @@
+package com.coupon.api.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// O intervalo é lido pelo @Scheduled direto das propriedades; aqui fica documentado com o resto
+@ConfigurationProperties(prefix = "coupon.archive")
+public record CouponArchiveProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("PT10M") Duration interval,
+        @DefaultValue("30d") Duration retention,
+        @DefaultValue("1000") int chunkSize
+) {}
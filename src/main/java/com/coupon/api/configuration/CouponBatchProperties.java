@@ -0,0 +1,10 @@
+package com.coupon.api.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "coupon.batch")
+public record CouponBatchProperties(
+        @DefaultValue("50000") int maxItems,
+        @DefaultValue("500") int chunkSize
+) {}
@@ -0,0 +1,14 @@
+package com.coupon.api.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// O intervalo é lido pelo @Scheduled direto das propriedades; aqui fica documentado com o resto
+@ConfigurationProperties(prefix = "coupon.expiration")
+public record CouponExpirationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("PT1M") Duration interval,
+        @DefaultValue("1000") int chunkSize
+) {}
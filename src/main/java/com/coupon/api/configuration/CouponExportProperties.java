@@ -0,0 +1,9 @@
+package com.coupon.api.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "coupon.export")
+public record CouponExportProperties(
+        @DefaultValue("1000") int fetchSize
+) {}
@@ -0,0 +1,14 @@
+package com.coupon.api.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param key chave da permutação dos códigos gerados. Precisa ser a mesma em todas as instâncias
+ *            e não pode mudar depois que houver códigos gerados, senão contadores diferentes
+ *            passam a produzir o mesmo código.
+ */
+@ConfigurationProperties(prefix = "coupon.generator")
+public record CouponGeneratorProperties(
+        @DefaultValue("coupon-api-dev") String key
+) {}
@@ -0,0 +1,12 @@
+package com.coupon.api.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// Cache-Control do GET /coupon/{id}; com max-age zero o cliente sempre revalida pelo ETag
+@ConfigurationProperties(prefix = "coupon.http-cache")
+public record CouponHttpCacheProperties(
+        @DefaultValue("0s") Duration maxAge
+) {}
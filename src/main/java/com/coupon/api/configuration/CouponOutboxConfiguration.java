@@ -0,0 +1,23 @@
+package com.coupon.api.configuration;
+
+import com.coupon.api.event.CouponEventSink;
+import com.coupon.api.event.FileCouponEventSink;
+import com.coupon.api.event.LoggingCouponEventSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CouponOutboxConfiguration {
+
+    // Destino padrão do relay; qualquer outro bean CouponEventSink o substitui
+    @Bean
+    @ConditionalOnMissingBean(CouponEventSink.class)
+    public CouponEventSink couponEventSink(CouponOutboxProperties properties, ObjectMapper objectMapper) {
+        return switch (properties.sink()) {
+            case LOG -> new LoggingCouponEventSink();
+            case FILE -> new FileCouponEventSink(properties.file(), objectMapper);
+        };
+    }
+}
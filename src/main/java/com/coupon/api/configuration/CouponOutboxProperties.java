@@ -0,0 +1,22 @@
+package com.coupon.api.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+// O intervalo é lido pelo @Scheduled direto das propriedades; aqui fica documentado com o resto
+@ConfigurationProperties(prefix = "coupon.outbox")
+public record CouponOutboxProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("PT1S") Duration interval,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("20") int maxBatchesPerRun,
+        @DefaultValue("PT1M") Duration maxBackoff,
+        @DefaultValue("LOG") Sink sink,
+        @DefaultValue("data/coupon-events.ndjson") Path file
+) {
+
+    public enum Sink { LOG, FILE }
+}
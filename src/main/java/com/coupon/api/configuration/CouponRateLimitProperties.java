@@ -0,0 +1,47 @@
+package com.coupon.api.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Limites por cliente (token bucket por grupo de endpoint) e limite adaptativo de concorrência
+ * na frente do CouponController. Grupos sem entrada em {@code endpoints} usam {@code defaults}.
+ *
+ * <p>O cliente é o endereço remoto, ou o header {@code clientHeader} quando configurado (só faz
+ * sentido atrás de um gateway que o preencha, senão o cliente troca de identidade à vontade).
+ * Vem desligado: sem o header, tudo que passa por um gateway ou por um serviço interno conta como
+ * um único cliente.</p>
+ */
+@ConfigurationProperties(prefix = "coupon.rate-limit")
+public record CouponRateLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        String clientHeader,
+        @DefaultValue("100000") long maxClients,
+        @DefaultValue("10m") Duration clientIdleTtl,
+        @DefaultValue Limit defaults,
+        Map<String, Limit> endpoints,
+        @DefaultValue Concurrency concurrency
+) {
+
+    public Limit limitFor(String group) {
+        return endpoints == null ? defaults : endpoints.getOrDefault(group, defaults);
+    }
+
+    public record Limit(
+            @DefaultValue("100") double permitsPerSecond,
+            @DefaultValue("200") int burst
+    ) {}
+
+    public record Concurrency(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("20") int initialLimit,
+            @DefaultValue("4") int minLimit,
+            @DefaultValue("50") int maxLimit,
+            @DefaultValue("200ms") Duration targetLatency,
+            @DefaultValue("0.9") double backoffRatio,
+            @DefaultValue("1s") Duration retryAfter
+    ) {}
+}
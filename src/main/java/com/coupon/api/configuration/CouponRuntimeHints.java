@@ -0,0 +1,64 @@
+package com.coupon.api.configuration;
+
+import com.coupon.api.domain.entity.ArchivedCoupon;
+import com.coupon.api.domain.entity.Coupon;
+import com.coupon.api.domain.entity.CouponCodeBlock;
+import com.coupon.api.domain.entity.CouponOutboxEvent;
+import com.coupon.api.dto.CouponBatchItemResultDTO;
+import com.coupon.api.dto.CouponBatchResponseDTO;
+import com.coupon.api.dto.CouponFilterDTO;
+import com.coupon.api.dto.CouponGenerateRequestDTO;
+import com.coupon.api.dto.CouponPageDTO;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.repository.CouponCodeView;
+import com.coupon.api.repository.CouponCursor;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.data.projection.TargetAware;
+
+/**
+ * Hints para a imagem nativa (profile Maven {@code native}). O AOT do Spring já cobre os beans,
+ * os repositórios e os tipos dos métodos dos controllers; aqui ficam os acessos que ele não
+ * enxerga: o construtor do {@link CouponResponseDTO} chamado pelo Hibernate na projeção da
+ * listagem, os DTOs serializados direto por {@code ObjectWriter} (CBOR/Smile e cache), o proxy da
+ * projeção {@link CouponCodeView} e os recursos lidos em runtime (migrations e Swagger UI).
+ *
+ * <p>As classes geradas do Caffeine vêm do GraalVM Reachability Metadata, habilitado por padrão
+ * no profile {@code native} do spring-boot-starter-parent.</p>
+ */
+public class CouponRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final Class<?>[] BOUND_TYPES = {
+            CouponRequestDTO.class,
+            CouponResponseDTO.class,
+            CouponGenerateRequestDTO.class,
+            CouponBatchItemResultDTO.class,
+            CouponBatchResponseDTO.class,
+            CouponFilterDTO.class,
+            CouponPageDTO.class,
+            CouponCursor.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), BOUND_TYPES);
+
+        hints.reflection()
+                .registerType(Coupon.class, MemberCategory.values())
+                .registerType(CouponCodeBlock.class, MemberCategory.values())
+                .registerType(CouponOutboxEvent.class, MemberCategory.values())
+                .registerType(ArchivedCoupon.class, MemberCategory.values())
+                .registerType(CouponResponseDTO.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+        hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(CouponCodeView.class, TargetAware.class));
+
+        hints.resources()
+                .registerPattern("db/migration/*.sql")
+                .registerPattern("application-*.properties")
+                .registerPattern("META-INF/resources/webjars/swagger-ui/**");
+    }
+}
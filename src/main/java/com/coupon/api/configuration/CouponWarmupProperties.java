@@ -0,0 +1,14 @@
+package com.coupon.api.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "coupon.warmup")
+public record CouponWarmupProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int hotCoupons,
+        @DefaultValue("2000") int requests,
+        @DefaultValue("30s") Duration maxDuration
+) {}
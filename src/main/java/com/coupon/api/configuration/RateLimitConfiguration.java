@@ -0,0 +1,32 @@
+package com.coupon.api.configuration;
+
+import com.coupon.api.ratelimit.CouponRateLimitInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "coupon.rate-limit", name = "enabled", havingValue = "true")
+public class RateLimitConfiguration implements WebMvcConfigurer {
+
+    private final ObjectProvider<CouponRateLimitInterceptor> interceptor;
+
+    public RateLimitConfiguration(ObjectProvider<CouponRateLimitInterceptor> interceptor) {
+        this.interceptor = interceptor;
+    }
+
+    @Bean
+    public CouponRateLimitInterceptor couponRateLimitInterceptor(CouponRateLimitProperties properties,
+                                                                 MeterRegistry meterRegistry) {
+        return new CouponRateLimitInterceptor(properties, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor.getObject()).addPathPatterns("/coupon", "/coupon/**");
+    }
+}
@@ -0,0 +1,48 @@
+package com.coupon.api.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Separa leituras e escritas em dois pools Hikari: transações {@code readOnly} vão para a
+ * réplica e o restante para o primário, cada pool com seu próprio tamanho e timeouts
+ * ({@code coupon.datasource.primary.*} e {@code coupon.datasource.replica.*}).
+ *
+ * <p>O roteamento fica no {@link LazyConnectionDataSourceProxy}: a conexão física só é obtida no
+ * primeiro comando SQL, depois que a transação já marcou a conexão como somente leitura. Por isso
+ * o open-in-view precisa estar desligado; com ele, a conexão da requisição seria reaproveitada
+ * entre transações de leitura e escrita.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "coupon.datasource.routing", name = "enabled", havingValue = "true")
+public class ReadReplicaRoutingConfiguration {
+
+    @Bean
+    @ConfigurationProperties(prefix = "coupon.datasource.primary")
+    public HikariDataSource primaryDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "coupon.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(replica);
+        return routing;
+    }
+}
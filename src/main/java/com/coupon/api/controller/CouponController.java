@@ -1,20 +1,59 @@
 package com.coupon.api.controller;
 
+import com.coupon.api.cache.CouponResponseCache;
+import com.coupon.api.configuration.BinaryFormatConfiguration;
+import com.coupon.api.configuration.CouponHttpCacheProperties;
+import com.coupon.api.configuration.CouponRateLimitProperties;
+import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.domain.enums.ExportFormat;
+import com.coupon.api.domain.enums.WireFormat;
+import com.coupon.api.dto.CouponBatchResponseDTO;
+import com.coupon.api.dto.CouponEvaluateRequestDTO;
+import com.coupon.api.dto.CouponEvaluateResponseDTO;
+import com.coupon.api.dto.CouponFilterDTO;
+import com.coupon.api.dto.CouponGenerateRequestDTO;
+import com.coupon.api.dto.CouponPageDTO;
 import com.coupon.api.dto.CouponRequestDTO;
 import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.ratelimit.ClientIdentity;
+import com.coupon.api.ratelimit.RateLimited;
+import com.coupon.api.service.CouponBatchService;
+import com.coupon.api.service.CouponEvaluationService;
+import com.coupon.api.service.CouponExportService;
+import com.coupon.api.service.CouponIdempotencyService;
 import com.coupon.api.service.CouponService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/coupon")
@@ -22,45 +61,268 @@ import java.util.UUID;
 @Tag(name = "Coupon", description = "Gerenciamento de cupons de desconto")
 public class CouponController {
 
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final CouponService service;
+    private final CouponBatchService batchService;
+    private final CouponEvaluationService evaluationService;
+    private final CouponExportService exportService;
+    private final CouponIdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+    private final CouponHttpCacheProperties httpCache;
+    private final CouponRateLimitProperties rateLimit;
 
     @PostMapping
-    @Operation(summary = "Criar um novo cupom", description = "Cria um cupom aplicando normalização de código e regras de validação.")
+    @RateLimited("create")
+    @Operation(summary = "Criar um novo cupom", description = "Cria um cupom aplicando normalização de código e regras de validação. "
+            + "Com o header Idempotency-Key, repetições da mesma requisição devolvem a resposta original.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "Cupom criado com sucesso"),
-            @ApiResponse(responseCode = "400", description = "Dados inválidos (ex: data no passado, valor negativo)")
+            @ApiResponse(responseCode = "201", description = "Cupom criado com sucesso (ou resposta original repetida, com Idempotent-Replayed: true)"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos (ex: data no passado, valor negativo)"),
+            @ApiResponse(responseCode = "409", description = "Código já existente ou requisição com a mesma chave ainda em processamento"),
+            @ApiResponse(responseCode = "422", description = "Chave de idempotência reutilizada com outro conteúdo")
     })
-    public ResponseEntity<CouponResponseDTO> create(@RequestBody @Valid CouponRequestDTO request) {
-        CouponResponseDTO response = service.create(request);
+    public ResponseEntity<CouponResponseDTO> create(@RequestBody @Valid CouponRequestDTO request,
+                                                    @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                    HttpServletRequest httpRequest) {
+        CouponResponseDTO response;
+        boolean replayed = false;
+        if (idempotencyKey == null) {
+            response = service.create(request);
+        } else {
+            String client = ClientIdentity.of(httpRequest, rateLimit.clientHeader());
+            CouponIdempotencyService.Result result = idempotencyService.create(client, idempotencyKey, request);
+            response = result.response();
+            replayed = result.replayed();
+        }
 
         URI location = ServletUriComponentsBuilder.fromCurrentRequest()
                 .path("/{id}")
                 .buildAndExpand(response.id())
                 .toUri();
 
-        return ResponseEntity.created(location).body(response);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.created(location);
+        if (replayed) {
+            builder.header(IDEMPOTENT_REPLAYED_HEADER, "true");
+        }
+        return builder.body(response);
+    }
+
+    @PostMapping("/generate")
+    @RateLimited(value = "create", sampleLatency = false)
+    @Operation(summary = "Gerar cupons com códigos do servidor", description = "Cria a quantidade pedida de cupons com códigos únicos gerados pela API, sem colisão entre instâncias.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cupons gerados (verificar o resultado de cada item)"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou quantidade acima do limite permitido")
+    })
+    public ResponseEntity<CouponBatchResponseDTO> generate(@RequestBody @Valid CouponGenerateRequestDTO request) {
+        return ResponseEntity.ok(batchService.generate(request));
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @RateLimited(value = "create", sampleLatency = false)
+    @Operation(summary = "Criar cupons em lote", description = "Valida todos os itens em memória e persiste em blocos. Cada item recebe seu próprio resultado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado (verificar o resultado de cada item)"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do limite permitido")
+    })
+    public ResponseEntity<CouponBatchResponseDTO> createBatch(@RequestBody List<CouponRequestDTO> requests) {
+        return ResponseEntity.ok(batchService.createBatch(requests));
+    }
+
+    @PostMapping(value = "/batch", consumes = APPLICATION_NDJSON_VALUE)
+    @RateLimited(value = "create", sampleLatency = false)
+    @Operation(summary = "Criar cupons em lote (NDJSON)", description = "Um cupom por linha. Linhas malformadas são rejeitadas individualmente.")
+    public ResponseEntity<CouponBatchResponseDTO> createBatchNdjson(InputStream body) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(CouponRequestDTO.class);
+        List<CouponRequestDTO> requests = new ArrayList<>();
+
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) continue;
+                try {
+                    requests.add(reader.readValue(line));
+                } catch (JsonProcessingException ex) {
+                    // Mantém a posição da linha para que o resultado aponte o item rejeitado
+                    requests.add(null);
+                }
+            }
+        }
+
+        return ResponseEntity.ok(batchService.createBatch(requests));
+    }
+
+    @GetMapping
+    @RateLimited("read")
+    @Operation(summary = "Listar cupons", description = "Filtros opcionais e paginação por cursor ordenada por data de expiração. Use o nextCursor da resposta para buscar a próxima página.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de cupons"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    public ResponseEntity<CouponPageDTO> list(
+            @RequestParam(required = false) CouponStatus status,
+            @RequestParam(required = false) Boolean published,
+            @RequestParam(required = false) Boolean redeemed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime expiresFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime expiresTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CouponFilterDTO filter = new CouponFilterDTO(status, published, redeemed, expiresFrom, expiresTo);
+        return ResponseEntity.ok(service.list(filter, cursor, size));
+    }
+
+    @GetMapping("/export")
+    @RateLimited("export")
+    @Operation(summary = "Exportar todos os cupons", description = "Envia a tabela inteira em streaming (NDJSON ou CSV), com memória constante no servidor.")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        MediaType mediaType = format == ExportFormat.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.parseMediaType(APPLICATION_NDJSON_VALUE);
+        String filename = "coupons." + format.name().toLowerCase();
+
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(out -> exportService.export(format, out));
+    }
+
+    @PostMapping("/evaluate")
+    @RateLimited("read")
+    @Operation(summary = "Avaliar cupons para o checkout", description = "Recebe até 500 códigos e/ou ids e devolve, na mesma ordem, "
+            + "se cada cupom pode ser usado (ativo, publicado, não resgatado e dentro da validade) e o desconto dos utilizáveis.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Avaliação concluída (verificar o veredito de cada item)"),
+            @ApiResponse(responseCode = "400", description = "Nenhum item informado ou acima do limite permitido")
+    })
+    public ResponseEntity<CouponEvaluateResponseDTO> evaluate(@RequestBody @Valid CouponEvaluateRequestDTO request) {
+        return ResponseEntity.ok(evaluationService.evaluate(request));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Buscar cupom por ID")
+    @RateLimited("read")
+    @Operation(summary = "Buscar cupom por ID", description = "Responde com ETag forte da versão do cupom. "
+            + "Com If-None-Match igual ao ETag atual devolve 304 sem corpo.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cupom encontrado"),
+            @ApiResponse(responseCode = "304", description = "Cupom não mudou desde o ETag informado"),
             @ApiResponse(responseCode = "404", description = "Cupom não encontrado")
     })
-    public ResponseEntity<CouponResponseDTO> getById(@PathVariable UUID id) {
+    public ResponseEntity<CouponResponseDTO> getById(@PathVariable UUID id,
+                                                     @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         CouponResponseDTO response = service.findById(id);
-        return ResponseEntity.ok(response);
+        return conditional(response, null, null, ifNoneMatch, () -> response);
+    }
+
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_CBOR_VALUE)
+    @RateLimited("read")
+    @Operation(summary = "Buscar cupom por ID em CBOR", description = "Mesmo conteúdo do GET /coupon/{id}, servido a partir de bytes já serializados em cache. Selecionado com Accept: application/cbor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cupom encontrado"),
+            @ApiResponse(responseCode = "304", description = "Cupom não mudou desde o ETag informado"),
+            @ApiResponse(responseCode = "404", description = "Cupom não encontrado")
+    })
+    public ResponseEntity<byte[]> getByIdCbor(@PathVariable UUID id,
+                                              @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return encoded(id, WireFormat.CBOR, MediaType.APPLICATION_CBOR, ifNoneMatch);
+    }
+
+    @GetMapping(value = "/{id}", produces = BinaryFormatConfiguration.APPLICATION_SMILE_VALUE)
+    @RateLimited("read")
+    @Operation(summary = "Buscar cupom por ID em Smile", description = "Mesmo conteúdo do GET /coupon/{id}, servido a partir de bytes já serializados em cache. Selecionado com Accept: application/x-jackson-smile.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cupom encontrado"),
+            @ApiResponse(responseCode = "304", description = "Cupom não mudou desde o ETag informado"),
+            @ApiResponse(responseCode = "404", description = "Cupom não encontrado")
+    })
+    public ResponseEntity<byte[]> getByIdSmile(@PathVariable UUID id,
+                                               @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return encoded(id, WireFormat.SMILE, MediaType.parseMediaType(BinaryFormatConfiguration.APPLICATION_SMILE_VALUE), ifNoneMatch);
+    }
+
+    @GetMapping("/code/{code}")
+    @RateLimited("read")
+    @Operation(summary = "Buscar cupom pelo código", description = "Aplica a mesma normalização da criação antes da busca.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cupom encontrado"),
+            @ApiResponse(responseCode = "400", description = "Código inválido após a normalização"),
+            @ApiResponse(responseCode = "404", description = "Cupom não encontrado")
+    })
+    public ResponseEntity<CouponResponseDTO> getByCode(@PathVariable String code) {
+        return ResponseEntity.ok(service.findByCode(code));
+    }
+
+    @PostMapping("/{id}/redeem")
+    @RateLimited("redeem")
+    @Operation(summary = "Resgatar cupom", description = "Marca o cupom como resgatado de forma atômica. Só um resgate concorrente vence.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cupom resgatado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cupom inativo, não publicado ou expirado"),
+            @ApiResponse(responseCode = "404", description = "Cupom não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Cupom já resgatado")
+    })
+    public ResponseEntity<CouponResponseDTO> redeem(@PathVariable UUID id) {
+        return ResponseEntity.ok(service.redeem(id));
+    }
+
+    @PostMapping("/code/{code}/redeem")
+    @RateLimited("redeem")
+    @Operation(summary = "Resgatar cupom pelo código")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cupom resgatado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Código inválido ou cupom indisponível para resgate"),
+            @ApiResponse(responseCode = "404", description = "Cupom não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Cupom já resgatado")
+    })
+    public ResponseEntity<CouponResponseDTO> redeemByCode(@PathVariable String code) {
+        return ResponseEntity.ok(service.redeemByCode(code));
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Deletar cupom (Soft Delete)")
+    @RateLimited("delete")
+    @Operation(summary = "Deletar cupom (Soft Delete)", description = "Com If-Match, só deleta se o ETag ainda corresponder à versão atual do cupom.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Cupom deletado com sucesso"),
             @ApiResponse(responseCode = "404", description = "Cupom não encontrado"),
-            @ApiResponse(responseCode = "400", description = "Tentativa de deletar cupom já removido")
+            @ApiResponse(responseCode = "400", description = "Tentativa de deletar cupom já removido"),
+            @ApiResponse(responseCode = "409", description = "Cupom alterado por outra requisição durante o delete"),
+            @ApiResponse(responseCode = "412", description = "O ETag do If-Match não corresponde à versão atual")
     })
-    public ResponseEntity<Void> delete(@PathVariable UUID id) {
-        service.delete(id);
+    public ResponseEntity<Void> delete(@PathVariable UUID id,
+                                       @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        service.delete(id, CouponETags.versionsOf(ifMatch));
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    // Uma única busca no cache: o 304 é decidido pela versão do DTO e os bytes só são lidos para o 200
+    private ResponseEntity<byte[]> encoded(UUID id, WireFormat format, MediaType mediaType, String ifNoneMatch) {
+        CouponResponseCache.Encoded encoded = service.findEncodedById(id, format);
+        return conditional(encoded.response(), format, mediaType, ifNoneMatch, encoded::bytes);
+    }
+
+    private <T> ResponseEntity<T> conditional(CouponResponseDTO response, WireFormat format, MediaType mediaType,
+                                              String ifNoneMatch, Supplier<T> body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(cacheControl());
+        headers.setVary(List.of(HttpHeaders.ACCEPT));
+        if (response.version() != null) {
+            String etag = CouponETags.of(response.version(), format);
+            headers.setETag(etag);
+            if (!CouponETags.noneMatch(ifNoneMatch, etag)) {
+                return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+            }
+        }
+        if (mediaType != null) {
+            headers.setContentType(mediaType);
+        }
+        return new ResponseEntity<>(body.get(), headers, HttpStatus.OK);
+    }
+
+    private CacheControl cacheControl() {
+        return httpCache.maxAge().isZero()
+                ? CacheControl.noCache()
+                : CacheControl.maxAge(httpCache.maxAge()).mustRevalidate();
+    }
+}
@@ -0,0 +1,76 @@
+package com.coupon.api.controller;
+
+import com.coupon.api.domain.enums.WireFormat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * ETags fortes derivados da versão do cupom: {@code "3"} para JSON e {@code "3.cbor"} /
+ * {@code "3.smile"} para as representações binárias, já que os bytes de cada formato são
+ * diferentes. Nada aqui serializa o corpo: a comparação usa só a versão que já está no cache.
+ * Pública porque a variante reativa ({@code coupon-api-reactive}) compila esta mesma classe.
+ */
+public final class CouponETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private CouponETags() {
+    }
+
+    public static String of(long version, WireFormat format) {
+        return format == null
+                ? "\"" + version + "\""
+                : "\"" + version + "." + format.name().toLowerCase() + "\"";
+    }
+
+    // If-None-Match usa comparação fraca: W/"3" casa com "3"
+    public static boolean noneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return true;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return false;
+            }
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.equals(etag)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Versões aceitas por um If-Match, ignorando o sufixo de formato (o ETag do CBOR identifica a
+     * mesma versão que o do JSON). Devolve null quando não há precondição ({@code *} ou header
+     * ausente) e um conjunto vazio quando nenhum valor é um ETag forte desta API, o que faz o
+     * delete falhar com 412 como manda a comparação forte.
+     */
+    public static Set<Long> versionsOf(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return null;
+            }
+            if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+                continue;
+            }
+            String value = tag.substring(1, tag.length() - 1);
+            int dot = value.indexOf('.');
+            try {
+                versions.add(Long.parseLong(dot < 0 ? value : value.substring(0, dot)));
+            } catch (NumberFormatException ex) {
+                // ETag que não saiu desta API: nunca casa
+            }
+        }
+        return versions;
+    }
+}
@@ -1,9 +1,17 @@
 package com.coupon.api.controller.advice;
 
 import com.coupon.api.domain.exception.BusinessException;
+import com.coupon.api.domain.exception.ErrorCode;
+import com.coupon.api.domain.exception.RequestThrottledException;
+import com.coupon.api.metrics.CouponMetrics;
+import com.coupon.api.metrics.CouponMetrics.Handler;
+import com.coupon.api.repository.ConstraintViolations;
+import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -13,10 +21,14 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final CouponMetrics metrics;
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ProblemDetail handleValidationExceptions(MethodArgumentNotValidException ex) {
+        metrics.handled(Handler.VALIDATION, null);
         ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
         problemDetail.setTitle("Erro de validação nos dados enviados");
         problemDetail.setDetail("Um ou mais campos obrigatórios estão inválidos ou ausentes.");
@@ -35,25 +47,61 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(BusinessException.class)
     public ProblemDetail handleBusinessException(BusinessException ex) {
-        // 404 se for "não encontrado", senão 400
-        HttpStatus status = ex.getMessage().toLowerCase().contains("não encontrado")
-                ? HttpStatus.NOT_FOUND
-                : HttpStatus.BAD_REQUEST;
-
-        ProblemDetail problemDetail = ProblemDetail.forStatus(status);
+        metrics.handled(Handler.BUSINESS, ex.getCode());
+        ProblemDetail problemDetail = ProblemDetail.forStatus(statusFor(ex.getCode()));
         problemDetail.setTitle("Violação de regra de negócio");
         problemDetail.setDetail(ex.getMessage());
+        problemDetail.setProperty("code", ex.getCode());
         problemDetail.setProperty("timestamp", Instant.now());
 
         return problemDetail;
     }
 
+    @ExceptionHandler(RequestThrottledException.class)
+    public ResponseEntity<ProblemDetail> handleRequestThrottled(RequestThrottledException ex) {
+        metrics.handled(Handler.BUSINESS, ex.getCode());
+        ProblemDetail problemDetail = ProblemDetail.forStatus(statusFor(ex.getCode()));
+        problemDetail.setTitle("Requisição recusada por limite de carga");
+        problemDetail.setDetail(ex.getMessage());
+        problemDetail.setProperty("code", ex.getCode());
+        problemDetail.setProperty("timestamp", Instant.now());
+
+        return ResponseEntity.status(problemDetail.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(problemDetail);
+    }
+
+    public static HttpStatus statusFor(ErrorCode code) {
+        return switch (code) {
+            case COUPON_NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case COUPON_ALREADY_REDEEMED, DUPLICATE_COUPON_CODE, COUPON_CONCURRENTLY_MODIFIED,
+                 IDEMPOTENCY_KEY_IN_PROGRESS -> HttpStatus.CONFLICT;
+            case PRECONDITION_FAILED -> HttpStatus.PRECONDITION_FAILED;
+            case IDEMPOTENCY_KEY_REUSED -> HttpStatus.UNPROCESSABLE_ENTITY;
+            case RATE_LIMITED -> HttpStatus.TOO_MANY_REQUESTS;
+            case OVERLOADED -> HttpStatus.SERVICE_UNAVAILABLE;
+            case INVALID_COUPON_CODE, COUPON_ALREADY_DELETED, COUPON_NOT_REDEEMABLE,
+                 INVALID_BATCH, INVALID_CURSOR, BUSINESS_RULE -> HttpStatus.BAD_REQUEST;
+        };
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ProblemDetail handleDataIntegrityViolation(DataIntegrityViolationException ex) {
-        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.CONFLICT);
-        problemDetail.setTitle("Conflito de dados");
-        problemDetail.setDetail("Já existe um cupom cadastrado com este código.");
+        metrics.handled(Handler.DATA_INTEGRITY, null);
+        if (ConstraintViolations.isUniqueViolation(ex)) {
+            ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+            problemDetail.setTitle("Conflito de dados");
+            problemDetail.setDetail("Já existe um cupom cadastrado com este código.");
+            problemDetail.setProperty("code", ErrorCode.DUPLICATE_COUPON_CODE);
+            problemDetail.setProperty("timestamp", Instant.now());
+            return problemDetail;
+        }
+
+        // NOT NULL, tamanho de coluna etc.: dado inválido que escapou da validação, não duplicidade
+        ProblemDetail problemDetail = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        problemDetail.setTitle("Violação de integridade dos dados");
+        problemDetail.setDetail("Os dados enviados violam uma restrição do banco de dados.");
         problemDetail.setProperty("timestamp", Instant.now());
         return problemDetail;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.coupon.api.domain.entity;
+
+import com.coupon.api.domain.enums.CouponStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Cupom deletado há mais que a retenção, movido para fora da tabela quente pelo CouponArchiver
+@Entity
+@Table(name = "tb_coupons_archive", indexes = {
+        // Sem unicidade: o código volta a ficar livre na tabela quente depois do arquivamento
+        @Index(name = "idx_coupons_archive_code", columnList = "code")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArchivedCoupon {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, length = 6)
+    private String code;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Column(name = "discount_value", nullable = false)
+    private BigDecimal discountValue;
+
+    @Column(name = "expiration_date", nullable = false)
+    private LocalDateTime expirationDate;
+
+    @Column(nullable = false)
+    private Boolean published;
+
+    @Column(nullable = false)
+    private Boolean redeemed;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private CouponStatus status;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Versão no momento do arquivamento: o ETag não muda quando o cupom sai da tabela quente
+    @Column(nullable = false)
+    private Long version;
+}
@@ -12,7 +12,12 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tb_coupons")
+@Table(name = "tb_coupons", indexes = {
+        // Paginação por cursor: (expiration_date, id) sozinhos ou precedidos do filtro mais seletivo
+        @Index(name = "idx_coupons_expiration_id", columnList = "expiration_date, id"),
+        @Index(name = "idx_coupons_status_expiration_id", columnList = "status, expiration_date, id"),
+        @Index(name = "idx_coupons_published_redeemed_expiration", columnList = "published, redeemed, expiration_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,18 +37,23 @@ public class Coupon {
     @Column(nullable = false)
     private BigDecimal discountValue;
 
-    @Column(nullable = false)
+    @Column(name = "expiration_date", nullable = false)
     private LocalDateTime expirationDate;
 
-    @Column(nullable = false)
+    @Column(name = "published", nullable = false)
     private Boolean published;
 
-    @Column(nullable = false)
+    @Column(name = "redeemed", nullable = false)
     private Boolean redeemed;
 
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(name = "status", nullable = false)
     private CouponStatus status;
 
     private LocalDateTime deletedAt;
+
+    // Lock otimista e base do ETag; os UPDATEs em massa do repositório incrementam manualmente
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
\ No newline at end of file
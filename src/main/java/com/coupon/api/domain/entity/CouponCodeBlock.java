@@ -0,0 +1,29 @@
+package com.coupon.api.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Bloco de contadores reservado por uma instância para gerar códigos sem coordenação por código
+@Entity
+@Table(name = "tb_coupon_code_blocks")
+@Getter
+@Setter
+@NoArgsConstructor
+public class CouponCodeBlock {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "coupon_code_block_seq")
+    @SequenceGenerator(name = "coupon_code_block_seq", sequenceName = "coupon_code_block_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "reserved_at", nullable = false)
+    private LocalDateTime reservedAt;
+
+    public CouponCodeBlock(LocalDateTime reservedAt) {
+        this.reservedAt = reservedAt;
+    }
+}
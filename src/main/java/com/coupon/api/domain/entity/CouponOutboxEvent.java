@@ -0,0 +1,45 @@
+package com.coupon.api.domain.entity;
+
+import com.coupon.api.domain.enums.CouponEventType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Evento do ciclo de vida do cupom, gravado na mesma transação da mudança e removido após a entrega
+@Entity
+@Table(name = "tb_coupon_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+public class CouponOutboxEvent {
+
+    // Sequência com alocação em bloco para que os eventos de um lote entrem no batch do Hibernate
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "coupon_outbox_seq")
+    @SequenceGenerator(name = "coupon_outbox_seq", sequenceName = "coupon_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 16)
+    private CouponEventType eventType;
+
+    @Column(name = "coupon_id", nullable = false)
+    private UUID couponId;
+
+    @Column(nullable = false, length = 6)
+    private String code;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    public CouponOutboxEvent(CouponEventType eventType, UUID couponId, String code, LocalDateTime occurredAt) {
+        this.eventType = eventType;
+        this.couponId = couponId;
+        this.code = code;
+        this.occurredAt = occurredAt;
+    }
+}
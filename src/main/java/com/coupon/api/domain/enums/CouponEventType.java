@@ -0,0 +1,8 @@
+package com.coupon.api.domain.enums;
+
+public enum CouponEventType {
+    CREATED,
+    DELETED,
+    REDEEMED,
+    EXPIRED
+}
@@ -0,0 +1,12 @@
+package com.coupon.api.domain.enums;
+
+public enum CouponVerdict {
+    USABLE,
+    INVALID_CODE,
+    NOT_FOUND,
+    DELETED,
+    INACTIVE,
+    NOT_PUBLISHED,
+    REDEEMED,
+    EXPIRED
+}
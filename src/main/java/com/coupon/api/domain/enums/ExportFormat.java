@@ -0,0 +1,6 @@
+package com.coupon.api.domain.enums;
+
+public enum ExportFormat {
+    NDJSON,
+    CSV
+}
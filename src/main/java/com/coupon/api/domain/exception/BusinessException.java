@@ -1,7 +1,32 @@
 package com.coupon.api.domain.exception;
 
 public class BusinessException extends RuntimeException {
+
+    private final ErrorCode code;
+
     public BusinessException(String message) {
+        this(ErrorCode.BUSINESS_RULE, message);
+    }
+
+    public BusinessException(ErrorCode code, String message) {
         super(message);
+        this.code = code;
+    }
+
+    protected BusinessException(ErrorCode code, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.code = code;
+    }
+
+    /**
+     * Cria uma instância sem stack trace e sem supressão, segura para ser pré-alocada e
+     * relançada em caminhos quentes (ex: 404 em massa). Veja {@link CouponErrors}.
+     */
+    public static BusinessException stackless(ErrorCode code, String message) {
+        return new BusinessException(code, message, false);
+    }
+
+    public ErrorCode getCode() {
+        return code;
     }
-}
\ No newline at end of file
+}
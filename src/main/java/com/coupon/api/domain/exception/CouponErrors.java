@@ -0,0 +1,47 @@
+package com.coupon.api.domain.exception;
+
+// Erros frequentes pré-alocados: lançá-los não preenche stack trace nem aloca nada
+public final class CouponErrors {
+
+    public static final BusinessException NOT_FOUND =
+            BusinessException.stackless(ErrorCode.COUPON_NOT_FOUND, "Cupom não encontrado.");
+
+    public static final BusinessException NOT_FOUND_BY_ID =
+            BusinessException.stackless(ErrorCode.COUPON_NOT_FOUND, "Cupom não encontrado com o ID fornecido.");
+
+    public static final BusinessException INVALID_CODE_LENGTH =
+            BusinessException.stackless(ErrorCode.INVALID_COUPON_CODE,
+                    "O código do cupom deve ter exatamente 6 caracteres alfanuméricos após a normalização.");
+
+    public static final BusinessException ALREADY_DELETED =
+            BusinessException.stackless(ErrorCode.COUPON_ALREADY_DELETED, "Não deve ser possível deletar um cupom já deletado.");
+
+    public static final BusinessException ALREADY_REDEEMED =
+            BusinessException.stackless(ErrorCode.COUPON_ALREADY_REDEEMED, "O cupom já foi resgatado.");
+
+    public static final BusinessException NOT_REDEEMABLE =
+            BusinessException.stackless(ErrorCode.COUPON_NOT_REDEEMABLE,
+                    "O cupom não está disponível para resgate (inativo, não publicado ou expirado).");
+
+    public static final BusinessException DUPLICATE_CODE =
+            BusinessException.stackless(ErrorCode.DUPLICATE_COUPON_CODE, "Já existe um cupom cadastrado com este código.");
+
+    public static final BusinessException CONCURRENTLY_MODIFIED =
+            BusinessException.stackless(ErrorCode.COUPON_CONCURRENTLY_MODIFIED,
+                    "O cupom foi alterado por outra requisição. Consulte-o novamente e repita a operação.");
+
+    public static final BusinessException PRECONDITION_FAILED =
+            BusinessException.stackless(ErrorCode.PRECONDITION_FAILED,
+                    "A versão informada em If-Match não corresponde à versão atual do cupom.");
+
+    public static final BusinessException IDEMPOTENCY_KEY_REUSED =
+            BusinessException.stackless(ErrorCode.IDEMPOTENCY_KEY_REUSED,
+                    "A chave de idempotência já foi usada com outro conteúdo de requisição.");
+
+    public static final BusinessException IDEMPOTENCY_KEY_IN_PROGRESS =
+            BusinessException.stackless(ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS,
+                    "Uma requisição com esta chave de idempotência ainda está em processamento.");
+
+    private CouponErrors() {
+    }
+}
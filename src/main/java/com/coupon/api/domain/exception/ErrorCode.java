@@ -0,0 +1,19 @@
+package com.coupon.api.domain.exception;
+
+public enum ErrorCode {
+    COUPON_NOT_FOUND,
+    INVALID_COUPON_CODE,
+    COUPON_ALREADY_DELETED,
+    COUPON_ALREADY_REDEEMED,
+    COUPON_NOT_REDEEMABLE,
+    DUPLICATE_COUPON_CODE,
+    COUPON_CONCURRENTLY_MODIFIED,
+    PRECONDITION_FAILED,
+    IDEMPOTENCY_KEY_REUSED,
+    IDEMPOTENCY_KEY_IN_PROGRESS,
+    INVALID_BATCH,
+    INVALID_CURSOR,
+    RATE_LIMITED,
+    OVERLOADED,
+    BUSINESS_RULE
+}
@@ -0,0 +1,16 @@
+package com.coupon.api.domain.exception;
+
+// Requisição recusada pelo limite de taxa (429) ou de concorrência (503); sem stack trace, pois é caminho quente sob ataque
+public class RequestThrottledException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public RequestThrottledException(ErrorCode code, String message, long retryAfterSeconds) {
+        super(code, message, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
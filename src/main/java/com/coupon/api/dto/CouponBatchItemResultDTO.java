@@ -0,0 +1,13 @@
+package com.coupon.api.dto;
+
+import com.coupon.api.domain.enums.BatchItemStatus;
+
+import java.util.UUID;
+
+public record CouponBatchItemResultDTO(
+        int index,
+        String code,
+        BatchItemStatus status,
+        UUID id,
+        String reason
+) {}
@@ -0,0 +1,10 @@
+package com.coupon.api.dto;
+
+import java.util.List;
+
+public record CouponBatchResponseDTO(
+        int total,
+        int created,
+        int rejected,
+        List<CouponBatchItemResultDTO> items
+) {}
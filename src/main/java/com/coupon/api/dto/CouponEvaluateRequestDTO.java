@@ -0,0 +1,14 @@
+package com.coupon.api.dto;
+
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record CouponEvaluateRequestDTO(
+        @Size(max = 500, message = "No máximo 500 códigos por avaliação")
+        List<String> codes,
+
+        @Size(max = 500, message = "No máximo 500 ids por avaliação")
+        List<UUID> ids
+) {}
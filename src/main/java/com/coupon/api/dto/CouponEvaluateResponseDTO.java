@@ -0,0 +1,8 @@
+package com.coupon.api.dto;
+
+import java.util.List;
+
+public record CouponEvaluateResponseDTO(
+        int usable,
+        List<CouponEvaluationDTO> results
+) {}
@@ -0,0 +1,16 @@
+package com.coupon.api.dto;
+
+import com.coupon.api.domain.enums.CouponVerdict;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// Resposta compacta: id e desconto só aparecem quando existem (desconto apenas para cupons utilizáveis)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CouponEvaluationDTO(
+        String code,
+        UUID id,
+        CouponVerdict verdict,
+        BigDecimal discountValue
+) {}
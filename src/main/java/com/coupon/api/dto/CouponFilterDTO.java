@@ -0,0 +1,13 @@
+package com.coupon.api.dto;
+
+import com.coupon.api.domain.enums.CouponStatus;
+
+import java.time.LocalDateTime;
+
+public record CouponFilterDTO(
+        CouponStatus status,
+        Boolean published,
+        Boolean redeemed,
+        LocalDateTime expiresFrom,
+        LocalDateTime expiresTo
+) {}
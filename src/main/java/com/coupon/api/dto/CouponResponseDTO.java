@@ -2,6 +2,7 @@ package com.coupon.api.dto;
 
 import com.coupon.api.domain.enums.CouponStatus;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -16,5 +17,14 @@ public record CouponResponseDTO(
         LocalDateTime expirationDate,
         Boolean published,
         Boolean redeemed,
-        CouponStatus status
-) {}
\ No newline at end of file
+        CouponStatus status,
+        // Vai no ETag, não no corpo
+        @JsonIgnore
+        Long version
+) {
+
+    public CouponResponseDTO(UUID id, String code, String description, BigDecimal discountValue,
+                             LocalDateTime expirationDate, Boolean published, Boolean redeemed, CouponStatus status) {
+        this(id, code, description, discountValue, expirationDate, published, redeemed, status, null);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.coupon.api.event;
+
+import com.coupon.api.domain.enums.CouponEventType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// O id é único e crescente por evento: consumidores o usam para descartar reentregas
+public record CouponEvent(
+        long id,
+        CouponEventType type,
+        UUID couponId,
+        String code,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
+        LocalDateTime occurredAt
+) {}
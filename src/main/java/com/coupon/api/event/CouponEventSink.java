@@ -0,0 +1,16 @@
+package com.coupon.api.event;
+
+import java.util.List;
+
+/**
+ * Destino dos eventos do outbox. Para trocar o destino (fila, webhook...), basta registrar outro
+ * bean deste tipo.
+ *
+ * <p>A entrega é pelo menos uma vez: o lote só sai do outbox depois que {@link #publish} retorna.
+ * Uma exceção faz o lote inteiro ser reenviado mais tarde, inclusive os eventos que já tinham
+ * chegado, então o destino deve tolerar repetições (pelo {@link CouponEvent#id()}).</p>
+ */
+public interface CouponEventSink {
+
+    void publish(List<CouponEvent> events);
+}
@@ -0,0 +1,52 @@
+package com.coupon.api.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Acrescenta os eventos em NDJSON, um lote por escrita, e só retorna depois do fsync
+public class FileCouponEventSink implements CouponEventSink {
+
+    private final Path file;
+    private final ObjectWriter writer;
+
+    public FileCouponEventSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.writer = objectMapper.writerFor(CouponEvent.class);
+    }
+
+    @Override
+    public void publish(List<CouponEvent> events) {
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(events.size() * 160);
+            for (CouponEvent event : events) {
+                writer.writeValue(buffer, event);
+                buffer.write('\n');
+            }
+
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(false);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
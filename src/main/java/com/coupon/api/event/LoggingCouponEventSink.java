@@ -0,0 +1,17 @@
+package com.coupon.api.event;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+// Destino de desenvolvimento: em DEBUG para que um lote grande não inunde o log de produção
+@Slf4j
+public class LoggingCouponEventSink implements CouponEventSink {
+
+    @Override
+    public void publish(List<CouponEvent> events) {
+        if (log.isDebugEnabled()) {
+            events.forEach(event -> log.debug("Evento de cupom: {}", event));
+        }
+    }
+}
@@ -27,7 +27,8 @@ public class CouponMapper {
                 coupon.getExpirationDate(),
                 coupon.getPublished(),
                 coupon.getRedeemed(),
-                coupon.getStatus()
+                coupon.getStatus(),
+                coupon.getVersion()
         );
     }
 }
\ No newline at end of file
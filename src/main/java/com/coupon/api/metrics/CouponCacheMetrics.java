@@ -0,0 +1,38 @@
+package com.coupon.api.metrics;
+
+import com.coupon.api.cache.CouponCodeIndex;
+import com.coupon.api.cache.CouponResponseCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// Gauges dos caches em memória; o pool de conexões já é exportado pelo Actuator (hikaricp.*)
+@Component
+@RequiredArgsConstructor
+public class CouponCacheMetrics implements MeterBinder {
+
+    private final CouponResponseCache responseCache;
+    private final CouponCodeIndex codeIndex;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("coupon.cache.size", responseCache, CouponResponseCache::estimatedSize)
+                .description("Entradas no cache de respostas (incluindo ausências)")
+                .register(registry);
+        FunctionCounter.builder("coupon.cache.requests", responseCache, cache -> cache.stats().hitCount())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("coupon.cache.requests", responseCache, cache -> cache.stats().missCount())
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("coupon.cache.evictions", responseCache, cache -> cache.stats().evictionCount())
+                .description("Entradas removidas por tamanho ou TTL")
+                .register(registry);
+        Gauge.builder("coupon.code.index.size", codeIndex, CouponCodeIndex::size)
+                .description("Códigos de cupons vivos no índice em memória")
+                .register(registry);
+    }
+}
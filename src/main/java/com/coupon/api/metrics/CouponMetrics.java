@@ -0,0 +1,116 @@
+package com.coupon.api.metrics;
+
+import com.coupon.api.domain.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Métricas das operações de cupom. Todos os timers e contadores são registrados na
+ * inicialização e indexados por enum, então o caminho quente é só um acesso a array e um
+ * {@code record}, sem montar tags nem consultar o registry.
+ */
+@Component
+public class CouponMetrics {
+
+    public enum Operation { CREATE, FIND_BY_ID, DELETE }
+
+    public enum Outcome { CREATED, FOUND, DELETED, DUPLICATE, VALIDATION_FAILED, NOT_FOUND, ALREADY_DELETED, CONFLICT, PRECONDITION_FAILED, ERROR }
+
+    public enum DbOperation { INSERT, FIND_BY_ID, UPDATE, ARCHIVE_FIND_BY_ID }
+
+    public enum Handler { VALIDATION, BUSINESS, DATA_INTEGRITY }
+
+    private static final Map<Operation, Set<Outcome>> OUTCOMES = Map.of(
+            Operation.CREATE, EnumSet.of(Outcome.CREATED, Outcome.DUPLICATE, Outcome.VALIDATION_FAILED, Outcome.ERROR),
+            Operation.FIND_BY_ID, EnumSet.of(Outcome.FOUND, Outcome.NOT_FOUND, Outcome.ERROR),
+            Operation.DELETE, EnumSet.of(Outcome.DELETED, Outcome.NOT_FOUND, Outcome.ALREADY_DELETED, Outcome.CONFLICT,
+                    Outcome.PRECONDITION_FAILED, Outcome.ERROR)
+    );
+
+    private static final int NO_CODE = ErrorCode.values().length;
+
+    private final Timer[][] operations = new Timer[Operation.values().length][Outcome.values().length];
+    private final Timer[] database = new Timer[DbOperation.values().length];
+    private final Counter[][] handled = new Counter[Handler.values().length][NO_CODE + 1];
+
+    public CouponMetrics(MeterRegistry registry) {
+        OUTCOMES.forEach((operation, outcomes) -> outcomes.forEach(outcome ->
+                operations[operation.ordinal()][outcome.ordinal()] = Timer.builder("coupon.operation")
+                        .description("Tempo total das operações de cupom no serviço")
+                        .tag("operation", tag(operation))
+                        .tag("outcome", tag(outcome))
+                        .publishPercentileHistogram()
+                        .register(registry)));
+
+        for (DbOperation operation : DbOperation.values()) {
+            database[operation.ordinal()] = Timer.builder("coupon.db")
+                    .description("Tempo gasto no banco pelas operações de cupom")
+                    .tag("operation", tag(operation))
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        for (Handler handler : Handler.values()) {
+            for (ErrorCode code : ErrorCode.values()) {
+                handled[handler.ordinal()][code.ordinal()] = handledCounter(registry, handler, tag(code));
+            }
+            handled[handler.ordinal()][NO_CODE] = handledCounter(registry, handler, "none");
+        }
+    }
+
+    public void record(Operation operation, Outcome outcome, long startNanos) {
+        Timer timer = operations[operation.ordinal()][outcome.ordinal()];
+        if (timer == null) {
+            timer = operations[operation.ordinal()][Outcome.ERROR.ordinal()];
+        }
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public <T> T timeDb(DbOperation operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            database[operation.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void handled(Handler handler, ErrorCode code) {
+        int index = code == null ? NO_CODE : code.ordinal();
+        handled[handler.ordinal()][index].increment();
+    }
+
+    public static Outcome outcomeOf(ErrorCode code) {
+        return switch (code) {
+            case COUPON_NOT_FOUND -> Outcome.NOT_FOUND;
+            case COUPON_ALREADY_DELETED -> Outcome.ALREADY_DELETED;
+            case DUPLICATE_COUPON_CODE -> Outcome.DUPLICATE;
+            case INVALID_COUPON_CODE -> Outcome.VALIDATION_FAILED;
+            // Conflitos de versão são respostas esperadas ao cliente (409/412), não falhas do servidor
+            case COUPON_CONCURRENTLY_MODIFIED -> Outcome.CONFLICT;
+            case PRECONDITION_FAILED -> Outcome.PRECONDITION_FAILED;
+            default -> Outcome.ERROR;
+        };
+    }
+
+    private static Counter handledCounter(MeterRegistry registry, Handler handler, String code) {
+        return Counter.builder("coupon.errors.handled")
+                .description("Erros tratados pelo GlobalExceptionHandler")
+                .tag("handler", tag(handler))
+                .tag("code", code)
+                .register(registry);
+    }
+
+    private static String tag(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
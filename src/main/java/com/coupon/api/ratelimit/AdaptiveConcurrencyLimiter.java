@@ -0,0 +1,102 @@
+package com.coupon.api.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limite de requisições simultâneas ajustado por AIMD sobre a latência observada: cada resposta
+ * abaixo do alvo soma {@code 1/limite} (cresce uma unidade por "janela" cheia) e uma resposta
+ * acima do alvo multiplica o limite por {@code backoffRatio}. A redução acontece no máximo uma vez
+ * por intervalo de latência alvo, para que uma rajada de respostas lentas da mesma janela não
+ * derrube o limite de uma vez.
+ *
+ * <p>Quando o banco fica lento, o limite cai e o excedente é recusado na hora, em vez de ficar
+ * esperando conexão no pool.</p>
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final AtomicLong lastDecreaseNanos;
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long targetLatencyNanos,
+                               double backoffRatio, long nowNanos) {
+        if (minLimit < 1 || minLimit > maxLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Limites de concorrência inválidos.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.backoffRatio = backoffRatio;
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(Math.max(minLimit, Math.min(maxLimit, initialLimit))));
+        this.lastDecreaseNanos = new AtomicLong(nowNanos - targetLatencyNanos);
+    }
+
+    boolean tryAcquire() {
+        int limit = limit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // sample = false libera a vaga sem ajustar o limite (ex: respostas assíncronas de longa duração)
+    void release(long latencyNanos, boolean sample, long nowNanos) {
+        int before = inFlight.getAndDecrement();
+        if (!sample) {
+            return;
+        }
+        if (latencyNanos > targetLatencyNanos) {
+            decrease(nowNanos);
+        } else if (before * 2 >= limit()) {
+            // Só cresce quando o limite atual está de fato sendo usado
+            increase();
+        }
+    }
+
+    int limit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private void increase() {
+        while (true) {
+            long bits = limitBits.get();
+            double current = Double.longBitsToDouble(bits);
+            if (current >= maxLimit) {
+                return;
+            }
+            double next = Math.min(maxLimit, current + 1 / current);
+            if (limitBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    private void decrease(long nowNanos) {
+        long last = lastDecreaseNanos.get();
+        if (nowNanos - last < targetLatencyNanos || !lastDecreaseNanos.compareAndSet(last, nowNanos)) {
+            return;
+        }
+        while (true) {
+            long bits = limitBits.get();
+            double next = Math.max(minLimit, Double.longBitsToDouble(bits) * backoffRatio);
+            if (limitBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+}
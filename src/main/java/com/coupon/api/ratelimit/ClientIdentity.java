@@ -0,0 +1,23 @@
+package com.coupon.api.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Identidade do cliente usada pelos limites por cliente e pelas chaves de idempotência: o header
+ * configurado em {@code coupon.rate-limit.client-header}, quando presente, ou o endereço remoto.
+ */
+public final class ClientIdentity {
+
+    private ClientIdentity() {
+    }
+
+    public static String of(HttpServletRequest request, String clientHeader) {
+        if (clientHeader != null && !clientHeader.isBlank()) {
+            String client = request.getHeader(clientHeader);
+            if (client != null && !client.isBlank()) {
+                return client;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,176 @@
+package com.coupon.api.ratelimit;
+
+import com.coupon.api.configuration.CouponRateLimitProperties;
+import com.coupon.api.configuration.CouponRateLimitProperties.Concurrency;
+import com.coupon.api.configuration.CouponRateLimitProperties.Limit;
+import com.coupon.api.domain.exception.ErrorCode;
+import com.coupon.api.domain.exception.RequestThrottledException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Proteção do CouponController contra varreduras e clientes descontrolados, em duas etapas:
+ * <ol>
+ *     <li>token bucket por cliente e grupo de endpoint ({@link RateLimited}): excedeu, 429;</li>
+ *     <li>limite adaptativo de requisições simultâneas, compartilhado por todos os endpoints
+ *     (o pool do banco também é): sem vaga, 503.</li>
+ * </ol>
+ * As duas respostas levam {@code Retry-After}. Os buckets ficam num cache do Caffeine com
+ * expiração por inatividade, então clientes que somem não acumulam memória.
+ */
+public class CouponRateLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = CouponRateLimitInterceptor.class.getName() + ".start";
+    private static final String UNSAMPLED_ATTRIBUTE = CouponRateLimitInterceptor.class.getName() + ".unsampled";
+    private static final String RATE_LIMITED_MESSAGE = "Limite de requisições excedido para este cliente.";
+    private static final String OVERLOADED_MESSAGE = "Serviço sobrecarregado; tente novamente em instantes.";
+
+    private final CouponRateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, GroupLimiter> groups = new ConcurrentHashMap<>();
+    private final AdaptiveConcurrencyLimiter concurrency;
+    private final Counter concurrencyRejected;
+
+    // O aquecimento roda antes da aplicação ficar pronta, pela porta local e como um único cliente
+    private volatile boolean active;
+
+    public CouponRateLimitInterceptor(CouponRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        Concurrency settings = properties.concurrency();
+        if (settings.enabled()) {
+            this.concurrency = new AdaptiveConcurrencyLimiter(settings.initialLimit(), settings.minLimit(),
+                    settings.maxLimit(), settings.targetLatency().toNanos(), settings.backoffRatio(), System.nanoTime());
+            Gauge.builder("coupon.concurrency.limit", concurrency, AdaptiveConcurrencyLimiter::limit)
+                    .description("Limite atual de requisições simultâneas no CouponController")
+                    .register(meterRegistry);
+            Gauge.builder("coupon.concurrency.in_flight", concurrency, AdaptiveConcurrencyLimiter::inFlight)
+                    .description("Requisições em andamento no CouponController")
+                    .register(meterRegistry);
+            this.concurrencyRejected = rejectedCounter("all", "concurrency");
+        } else {
+            this.concurrency = null;
+            this.concurrencyRejected = null;
+        }
+
+        // Grupos configurados aparecem nas métricas desde a subida, não só após a primeira requisição
+        group(RateLimited.DEFAULT_GROUP);
+        if (properties.endpoints() != null) {
+            properties.endpoints().keySet().forEach(this::group);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void activate() {
+        active = true;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Redespachos assíncronos já passaram pelos limites na requisição original
+        if (!active || request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        RateLimited annotation = method.getMethodAnnotation(RateLimited.class);
+        GroupLimiter group = group(annotation == null ? RateLimited.DEFAULT_GROUP : annotation.value());
+        long wait = group.bucket(ClientIdentity.of(request, properties.clientHeader()), now).tryAcquire(now);
+        if (wait > 0) {
+            group.rejected.increment();
+            throw new RequestThrottledException(ErrorCode.RATE_LIMITED, RATE_LIMITED_MESSAGE, toRetryAfterSeconds(wait));
+        }
+
+        if (concurrency != null) {
+            if (!concurrency.tryAcquire()) {
+                concurrencyRejected.increment();
+                throw new RequestThrottledException(ErrorCode.OVERLOADED, OVERLOADED_MESSAGE,
+                        toRetryAfterSeconds(properties.concurrency().retryAfter().toNanos()));
+            }
+            request.setAttribute(START_ATTRIBUTE, now);
+            if (annotation != null && !annotation.sampleLatency()) {
+                request.setAttribute(UNSAMPLED_ATTRIBUTE, Boolean.TRUE);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request, request.getAttribute(UNSAMPLED_ATTRIBUTE) == null);
+    }
+
+    // Exportação em streaming: a vaga é devolvida quando o processamento sai da thread da requisição
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request, false);
+    }
+
+    private void release(HttpServletRequest request, boolean sample) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        request.removeAttribute(START_ATTRIBUTE);
+        long now = System.nanoTime();
+        concurrency.release(now - start, sample, now);
+    }
+
+    private GroupLimiter group(String name) {
+        return groups.computeIfAbsent(name, key -> new GroupLimiter(key, properties.limitFor(key)));
+    }
+
+    private Counter rejectedCounter(String group, String reason) {
+        return Counter.builder("coupon.ratelimit.rejected")
+                .description("Requisições recusadas pelos limites de taxa e de concorrência")
+                .tag("group", group)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static long toRetryAfterSeconds(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + 999_999_999));
+    }
+
+    private final class GroupLimiter {
+
+        private final Limit limit;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter rejected;
+
+        private GroupLimiter(String name, Limit limit) {
+            this.limit = limit;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(properties.maxClients())
+                    .expireAfterAccess(properties.clientIdleTtl())
+                    .build();
+            this.rejected = rejectedCounter(name, "rate");
+            Gauge.builder("coupon.ratelimit.permits_per_second", limit, Limit::permitsPerSecond)
+                    .description("Taxa sustentada permitida por cliente")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            Gauge.builder("coupon.ratelimit.burst", limit, Limit::burst)
+                    .description("Rajada máxima permitida por cliente")
+                    .tag("group", name)
+                    .register(meterRegistry);
+        }
+
+        private TokenBucket bucket(String client, long now) {
+            return buckets.get(client, key -> new TokenBucket(limit.permitsPerSecond(), limit.burst(), now));
+        }
+    }
+}
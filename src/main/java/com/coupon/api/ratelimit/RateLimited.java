@@ -0,0 +1,26 @@
+package com.coupon.api.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Grupo de limite do endpoint: os limites são configurados por grupo em
+ * {@code coupon.rate-limit.endpoints.<grupo>.*}, e cada cliente tem um bucket por grupo.
+ * Endpoints sem a anotação usam o grupo {@value #DEFAULT_GROUP}.
+ *
+ * <p>{@code sampleLatency = false} tira o endpoint do ajuste do limite de concorrência: ele ainda
+ * ocupa uma vaga, mas a sua latência não reduz o limite. É para operações lentas por natureza
+ * (lotes, geração), que senão derrubariam o limite de todos os outros endpoints.</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    String DEFAULT_GROUP = "default";
+
+    String value();
+
+    boolean sampleLatency() default true;
+}
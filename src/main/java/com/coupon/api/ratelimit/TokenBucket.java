@@ -0,0 +1,41 @@
+package com.coupon.api.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket no formato GCRA: em vez de contar fichas, guarda só o instante teórico da próxima
+ * chegada (TAT). Cada tentativa é um CAS sobre um {@code long}, sem lock e sem thread de reposição.
+ */
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("A taxa deve ser positiva e o burst ao menos 1.");
+        }
+        this.emissionIntervalNanos = Math.max(1, Math.round(1_000_000_000d / permitsPerSecond));
+        this.toleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Consome uma ficha se houver. Retorna 0 quando a requisição pode seguir, ou quantos
+     * nanossegundos faltam para a próxima ficha.
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long base = current - nowNanos > 0 ? current : nowNanos;
+            long wait = base - nowNanos - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
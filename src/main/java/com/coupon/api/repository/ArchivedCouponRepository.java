@@ -0,0 +1,59 @@
+package com.coupon.api.repository;
+
+import com.coupon.api.domain.entity.ArchivedCoupon;
+import com.coupon.api.dto.CouponResponseDTO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@Transactional(readOnly = true)
+public interface ArchivedCouponRepository extends JpaRepository<ArchivedCoupon, UUID> {
+
+    @Query("""
+            select new com.coupon.api.dto.CouponResponseDTO(a.id, a.code, a.description, a.discountValue,
+                    a.expirationDate, a.published, a.redeemed, a.status, a.version)
+            from ArchivedCoupon a where a.id = :id
+            """)
+    Optional<CouponResponseDTO> findResponseById(@Param("id") UUID id);
+
+    // Fallback da avaliação em lote para o que não está mais na tabela quente
+    @Query("""
+            select new com.coupon.api.dto.CouponResponseDTO(a.id, a.code, a.description, a.discountValue,
+                    a.expirationDate, a.published, a.redeemed, a.status, a.version)
+            from ArchivedCoupon a where a.id in :ids
+            """)
+    List<CouponResponseDTO> findResponsesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // O código não é único no arquivo: o mais recente vem primeiro
+    @Query("""
+            select new com.coupon.api.dto.CouponResponseDTO(a.id, a.code, a.description, a.discountValue,
+                    a.expirationDate, a.published, a.redeemed, a.status, a.version)
+            from ArchivedCoupon a where a.code in :codes
+            order by a.archivedAt desc
+            """)
+    List<CouponResponseDTO> findResponsesByCodeIn(@Param("codes") Collection<String> codes);
+
+    // Cópia set-based: um INSERT ... SELECT por bloco, sem carregar entidades
+    @Modifying
+    @Transactional
+    @Query("""
+            insert into ArchivedCoupon (id, code, description, discountValue, expirationDate, published, redeemed,
+                                        status, deletedAt, version, archivedAt)
+            select c.id, c.code, c.description, c.discountValue, c.expirationDate, c.published, c.redeemed,
+                   c.status, c.deletedAt, c.version, :archivedAt
+            from Coupon c
+            where c.id in :ids
+              and c.status = com.coupon.api.domain.enums.CouponStatus.DELETED
+            """)
+    int copyFromCoupons(@Param("ids") Collection<UUID> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
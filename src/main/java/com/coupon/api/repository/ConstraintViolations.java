@@ -0,0 +1,33 @@
+package com.coupon.api.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLException;
+
+/**
+ * Separa violações de unicidade das demais falhas de integridade (NOT NULL, tamanho, FK), que
+ * o Spring traduz todas para {@code DataIntegrityViolationException}.
+ */
+public final class ConstraintViolations {
+
+    // SQLState padrão do SQL para chave duplicada (H2, PostgreSQL); o MySQL usa 23000 + código 1062
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String INTEGRITY_VIOLATION = "23000";
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+
+    public static boolean isUniqueViolation(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof DuplicateKeyException) {
+                return true;
+            }
+            if (cause instanceof SQLException sql) {
+                return UNIQUE_VIOLATION.equals(sql.getSQLState())
+                        || (INTEGRITY_VIOLATION.equals(sql.getSQLState()) && sql.getErrorCode() == MYSQL_DUPLICATE_ENTRY);
+            }
+        }
+        return false;
+    }
+
+    private ConstraintViolations() {
+    }
+}
@@ -0,0 +1,9 @@
+package com.coupon.api.repository;
+
+import com.coupon.api.domain.entity.CouponCodeBlock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CouponCodeBlockRepository extends JpaRepository<CouponCodeBlock, Long> {
+}
@@ -0,0 +1,14 @@
+package com.coupon.api.repository;
+
+import com.coupon.api.domain.enums.CouponStatus;
+
+import java.util.UUID;
+
+public interface CouponCodeView {
+
+    String getCode();
+
+    UUID getId();
+
+    CouponStatus getStatus();
+}
@@ -0,0 +1,32 @@
+package com.coupon.api.repository;
+
+import com.coupon.api.domain.exception.BusinessException;
+import com.coupon.api.domain.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+// Posição da última linha lida, na ordenação (expirationDate, id) da listagem
+public record CouponCursor(LocalDateTime expirationDate, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = expirationDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CouponCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new CouponCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR, "Cursor de paginação inválido.");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.coupon.api.repository;
+
+import com.coupon.api.domain.entity.CouponOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface CouponOutboxRepository extends JpaRepository<CouponOutboxEvent, Long> {
+
+    /**
+     * Reivindica o lote mais antigo com {@code FOR UPDATE SKIP LOCKED} (timeout -2): o relay de
+     * outra instância pula as linhas travadas e pega o lote seguinte. Em bancos sem SKIP LOCKED
+     * (ex: H2) o Hibernate gera só {@code FOR UPDATE} e os relays se revezam no mesmo lote.
+     * Precisa da transação de quem entrega, que segura a trava até remover as linhas.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from CouponOutboxEvent e order by e.id")
+    @Transactional(propagation = Propagation.MANDATORY)
+    List<CouponOutboxEvent> claimOldest(Limit limit);
+}
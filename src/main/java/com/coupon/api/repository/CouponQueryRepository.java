@@ -0,0 +1,11 @@
+package com.coupon.api.repository;
+
+import com.coupon.api.dto.CouponFilterDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+
+import java.util.List;
+
+public interface CouponQueryRepository {
+
+    List<CouponResponseDTO> findPage(CouponFilterDTO filter, CouponCursor after, int limit);
+}
@@ -0,0 +1,82 @@
+package com.coupon.api.repository;
+
+import com.coupon.api.domain.entity.Coupon;
+import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.dto.CouponFilterDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class CouponQueryRepositoryImpl implements CouponQueryRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Paginação por cursor (keyset) em (expirationDate, id): cada página continua de onde a
+     * anterior parou usando o índice, então páginas profundas custam o mesmo que a primeira.
+     * Projeta direto no DTO, sem carregar entidades no contexto de persistência.
+     */
+    @Override
+    public List<CouponResponseDTO> findPage(CouponFilterDTO filter, CouponCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CouponResponseDTO> query = cb.createQuery(CouponResponseDTO.class);
+        Root<Coupon> coupon = query.from(Coupon.class);
+
+        Path<UUID> id = coupon.get("id");
+        Path<LocalDateTime> expirationDate = coupon.get("expirationDate");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.status() != null) {
+            predicates.add(cb.equal(coupon.<CouponStatus>get("status"), filter.status()));
+        }
+        if (filter.published() != null) {
+            predicates.add(cb.equal(coupon.<Boolean>get("published"), filter.published()));
+        }
+        if (filter.redeemed() != null) {
+            predicates.add(cb.equal(coupon.<Boolean>get("redeemed"), filter.redeemed()));
+        }
+        if (filter.expiresFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(expirationDate, filter.expiresFrom()));
+        }
+        if (filter.expiresTo() != null) {
+            predicates.add(cb.lessThan(expirationDate, filter.expiresTo()));
+        }
+        if (after != null) {
+            // O ">=" é redundante com o OR, mas é ele que vira o limite inferior da busca no índice
+            // (expiration_date, id); só com o OR a maioria dos planejadores varre desde o início
+            predicates.add(cb.greaterThanOrEqualTo(expirationDate, after.expirationDate()));
+            predicates.add(cb.or(
+                    cb.greaterThan(expirationDate, after.expirationDate()),
+                    cb.and(cb.equal(expirationDate, after.expirationDate()), cb.greaterThan(id, after.id()))));
+        }
+
+        query.select(cb.construct(CouponResponseDTO.class,
+                        id,
+                        coupon.<String>get("code"),
+                        coupon.<String>get("description"),
+                        coupon.<BigDecimal>get("discountValue"),
+                        expirationDate,
+                        coupon.<Boolean>get("published"),
+                        coupon.<Boolean>get("redeemed"),
+                        coupon.<CouponStatus>get("status"),
+                        coupon.<Long>get("version")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(expirationDate), cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -1,11 +1,115 @@
 package com.coupon.api.repository;
 
 import com.coupon.api.domain.entity.Coupon;
+import com.coupon.api.dto.CouponResponseDTO;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+// Consultas somente leitura por padrão: sem dirty checking nem flush, e roteáveis para a réplica
 @Repository
-public interface CouponRepository extends JpaRepository<Coupon, UUID> {
-}
\ No newline at end of file
+@Transactional(readOnly = true)
+public interface CouponRepository extends JpaRepository<Coupon, UUID>, CouponQueryRepository {
+
+    @Query("select c.code from Coupon c where c.code in :codes")
+    Set<String> findExistingCodes(@Param("codes") Collection<String> codes);
+
+    @Query("select c.id from Coupon c where c.code = :code and c.status <> com.coupon.api.domain.enums.CouponStatus.DELETED")
+    Optional<UUID> findLiveIdByCode(@Param("code") String code);
+
+    boolean existsByCode(String code);
+
+    // Avaliação em lote: um IN por coluna indexada, projetado direto no DTO
+    @Query("""
+            select new com.coupon.api.dto.CouponResponseDTO(c.id, c.code, c.description, c.discountValue,
+                    c.expirationDate, c.published, c.redeemed, c.status, c.version)
+            from Coupon c where c.id in :ids
+            """)
+    List<CouponResponseDTO> findResponsesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("""
+            select new com.coupon.api.dto.CouponResponseDTO(c.id, c.code, c.description, c.discountValue,
+                    c.expirationDate, c.published, c.redeemed, c.status, c.version)
+            from Coupon c where c.code in :codes
+            """)
+    List<CouponResponseDTO> findResponsesByCodeIn(@Param("codes") Collection<String> codes);
+
+    @Query("select c.code as code, c.id as id, c.status as status from Coupon c")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<CouponCodeView> streamCodes();
+
+    // Resgate em um único UPDATE condicional: sem leitura prévia nem lock pessimista
+    @Modifying
+    @Transactional
+    @Query("""
+            update Coupon c set c.redeemed = true, c.version = c.version + 1
+            where c.id = :id
+              and c.redeemed = false
+              and c.published = true
+              and c.status = com.coupon.api.domain.enums.CouponStatus.ACTIVE
+              and c.expirationDate > :now
+            """)
+    int redeemIfAvailable(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    /**
+     * Trava os expirados selecionados ({@code FOR UPDATE SKIP LOCKED}, como o relay do outbox) até
+     * o UPDATE da mesma transação: um delete concorrente espera e falha pela versão, em vez de o
+     * cupom ganhar um evento EXPIRED de uma mudança que não aconteceu, e a varredura de outra
+     * instância pula essas linhas.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query("""
+            select c.code as code, c.id as id, c.status as status from Coupon c
+            where c.status = com.coupon.api.domain.enums.CouponStatus.ACTIVE
+              and c.expirationDate <= :now
+            order by c.expirationDate
+            """)
+    List<CouponCodeView> findExpiredActive(@Param("now") LocalDateTime now, Limit limit);
+
+    @Query("""
+            select c.id from Coupon c
+            where c.status = com.coupon.api.domain.enums.CouponStatus.DELETED
+              and c.deletedAt < :cutoff
+            order by c.deletedAt
+            """)
+    List<UUID> findDeletedBefore(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            delete from Coupon c
+            where c.id in :ids
+              and c.status = com.coupon.api.domain.enums.CouponStatus.DELETED
+            """)
+    int deleteArchived(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            update Coupon c set c.status = com.coupon.api.domain.enums.CouponStatus.INACTIVE, c.version = c.version + 1
+            where c.id in :ids
+              and c.status = com.coupon.api.domain.enums.CouponStatus.ACTIVE
+            """)
+    int deactivate(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,87 @@
+package com.coupon.api.service;
+
+import com.coupon.api.configuration.CouponArchiveProperties;
+import com.coupon.api.repository.ArchivedCouponRepository;
+import com.coupon.api.repository.CouponRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Move cupons deletados há mais que a retenção para {@code tb_coupons_archive}, em blocos de
+ * INSERT ... SELECT + DELETE na mesma transação. A tabela quente e seus índices (inclusive a
+ * unicidade do código) passam a crescer só com cupons vivos; o {@code findById} continua
+ * encontrando os arquivados pelo arquivo.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "coupon.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CouponArchiver {
+
+    private final CouponRepository repository;
+    private final ArchivedCouponRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CouponArchiveProperties properties;
+    private final Counter archived;
+    private final Timer runs;
+
+    public CouponArchiver(CouponRepository repository, ArchivedCouponRepository archiveRepository,
+                          TransactionTemplate transactionTemplate, CouponArchiveProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.archived = Counter.builder("coupon.archive.archived")
+                .description("Cupons deletados movidos para a tabela de arquivo")
+                .register(meterRegistry);
+        this.runs = Timer.builder("coupon.archive.run")
+                .description("Duração de cada execução do arquivamento")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.archive.interval:PT10M}", initialDelayString = "${coupon.archive.interval:PT10M}")
+    public void archive() {
+        runs.record(this::archiveNow);
+    }
+
+    int archiveNow() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(properties.retention());
+        int total = 0;
+        int selected;
+        do {
+            // Um bloco por transação: cópia e remoção confirmam juntas ou nenhuma delas
+            int[] counts = transactionTemplate.execute(status -> {
+                List<UUID> ids = repository.findDeletedBefore(cutoff, Limit.of(properties.chunkSize()));
+                if (ids.isEmpty()) {
+                    return new int[] {0, 0};
+                }
+                int copied = archiveRepository.copyFromCoupons(ids, now);
+                int removed = repository.deleteArchived(ids);
+                if (copied != removed) {
+                    throw new IllegalStateException("Arquivamento copiou " + copied + " e removeu " + removed + " cupons.");
+                }
+                return new int[] {ids.size(), removed};
+            });
+            selected = counts[0];
+            archived.increment(counts[1]);
+            total += counts[1];
+        } while (selected == properties.chunkSize());
+
+        if (total > 0) {
+            log.info("{} cupons deletados movidos para o arquivo.", total);
+        }
+        return total;
+    }
+}
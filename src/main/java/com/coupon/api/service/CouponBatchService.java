@@ -0,0 +1,214 @@
+package com.coupon.api.service;
+
+import com.coupon.api.cache.CouponCodeBloomFilter;
+import com.coupon.api.cache.CouponCodeIndex;
+import com.coupon.api.configuration.CouponBatchProperties;
+import com.coupon.api.domain.entity.Coupon;
+import com.coupon.api.domain.enums.BatchItemStatus;
+import com.coupon.api.domain.enums.CouponEventType;
+import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.domain.exception.BusinessException;
+import com.coupon.api.domain.exception.CouponErrors;
+import com.coupon.api.domain.exception.ErrorCode;
+import com.coupon.api.dto.CouponBatchItemResultDTO;
+import com.coupon.api.dto.CouponBatchResponseDTO;
+import com.coupon.api.dto.CouponGenerateRequestDTO;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.mapper.CouponMapper;
+import com.coupon.api.repository.ConstraintViolations;
+import com.coupon.api.repository.CouponRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class CouponBatchService {
+
+    private static final String MENSAGEM_ITEM_MALFORMADO = "Item inválido ou malformado.";
+    private static final String MENSAGEM_DUPLICADO_NO_LOTE = "Código repetido no lote (primeira ocorrência no item %d).";
+    private static final String MENSAGEM_CODIGO_EXISTENTE = "Já existe um cupom cadastrado com este código.";
+    private static final String MENSAGEM_RESTRICAO_VIOLADA = "Os dados violam uma restrição de integridade do banco.";
+
+    private final CouponRepository repository;
+    private final CouponMapper mapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final CouponBatchProperties properties;
+    private final CouponCodeIndex codeIndex;
+    private final CouponCodeBloomFilter bloomFilter;
+    private final CouponCodeNormalizer normalizer;
+    private final CouponCodeGenerator generator;
+    private final CouponOutbox outbox;
+
+    public CouponBatchResponseDTO createBatch(List<CouponRequestDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_BATCH, "O lote deve conter ao menos um cupom.");
+        }
+        if (requests.size() > properties.maxItems()) {
+            throw new BusinessException(ErrorCode.INVALID_BATCH, "O lote excede o limite de " + properties.maxItems() + " cupons por requisição.");
+        }
+
+        CouponBatchItemResultDTO[] results = new CouponBatchItemResultDTO[requests.size()];
+        List<PendingCoupon> pending = validarEmMemoria(requests, results);
+        descartarCodigosExistentes(pending, results);
+
+        int chunkSize = properties.chunkSize();
+        for (int start = 0; start < pending.size(); start += chunkSize) {
+            persistirChunk(pending.subList(start, Math.min(start + chunkSize, pending.size())), results);
+        }
+
+        int created = (int) Arrays.stream(results)
+                .filter(result -> result.status() == BatchItemStatus.CREATED)
+                .count();
+        return new CouponBatchResponseDTO(results.length, created, results.length - created, Arrays.asList(results));
+    }
+
+    /**
+     * Cria {@code quantity} cupons com códigos gerados pelo servidor. Os itens passam pelo mesmo
+     * caminho do lote (validação, normalização, persistência em blocos), mas como o gerador já
+     * descarta códigos possivelmente existentes, nenhum deles vai para a consulta de existência.
+     */
+    public CouponBatchResponseDTO generate(CouponGenerateRequestDTO request) {
+        if (request.quantity() > properties.maxItems()) {
+            throw new BusinessException(ErrorCode.INVALID_BATCH, "A quantidade excede o limite de " + properties.maxItems() + " cupons por requisição.");
+        }
+
+        List<CouponRequestDTO> requests = generator.generate(request.quantity()).stream()
+                .map(code -> new CouponRequestDTO(code, request.description(), request.discountValue(),
+                        request.expirationDate(), request.published()))
+                .toList();
+        return createBatch(requests);
+    }
+
+    private List<PendingCoupon> validarEmMemoria(List<CouponRequestDTO> requests, CouponBatchItemResultDTO[] results) {
+        List<PendingCoupon> pending = new ArrayList<>(requests.size());
+        Map<String, Integer> primeiraOcorrencia = new HashMap<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            CouponRequestDTO request = requests.get(index);
+            if (request == null) {
+                results[index] = rejected(index, null, MENSAGEM_ITEM_MALFORMADO);
+                continue;
+            }
+
+            Set<ConstraintViolation<CouponRequestDTO>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                String reason = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+                results[index] = rejected(index, request.code(), reason);
+                continue;
+            }
+
+            String codigoNormalizado = normalizer.normalize(request.code());
+            if (codigoNormalizado.length() != CouponCodeNormalizer.CODE_LENGTH) {
+                results[index] = rejected(index, codigoNormalizado, CouponErrors.INVALID_CODE_LENGTH.getMessage());
+                continue;
+            }
+
+            Integer anterior = primeiraOcorrencia.putIfAbsent(codigoNormalizado, index);
+            if (anterior != null) {
+                results[index] = rejected(index, codigoNormalizado, MENSAGEM_DUPLICADO_NO_LOTE.formatted(anterior));
+                continue;
+            }
+
+            Coupon coupon = mapper.toEntity(request);
+            coupon.setCode(codigoNormalizado);
+            coupon.setStatus(CouponStatus.ACTIVE);
+            pending.add(new PendingCoupon(index, coupon));
+        }
+        return pending;
+    }
+
+    private void descartarCodigosExistentes(List<PendingCoupon> pending, CouponBatchItemResultDTO[] results) {
+        // Códigos que o filtro garante serem novos nem entram na consulta
+        List<PendingCoupon> suspeitos = pending.stream()
+                .filter(item -> bloomFilter.mightContain(item.coupon().getCode()))
+                .toList();
+
+        int chunkSize = properties.chunkSize();
+        for (int start = 0; start < suspeitos.size(); start += chunkSize) {
+            Map<String, PendingCoupon> porCodigo = suspeitos.subList(start, Math.min(start + chunkSize, suspeitos.size())).stream()
+                    .collect(Collectors.toMap(item -> item.coupon().getCode(), item -> item));
+            for (String existente : repository.findExistingCodes(porCodigo.keySet())) {
+                PendingCoupon item = porCodigo.get(existente);
+                results[item.index()] = rejected(item.index(), existente, MENSAGEM_CODIGO_EXISTENTE);
+            }
+        }
+        pending.removeIf(item -> results[item.index()] != null);
+    }
+
+    private void persistirChunk(List<PendingCoupon> chunk, CouponBatchItemResultDTO[] results) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                repository.saveAll(chunk.stream().map(PendingCoupon::coupon).toList());
+                chunk.forEach(item -> registrarEvento(item.coupon()));
+                repository.flush();
+                // Evita que o contexto de persistência cresça com o tamanho do lote
+                entityManager.clear();
+            });
+            chunk.forEach(item -> registrarCriado(item, results));
+        } catch (DataIntegrityViolationException ex) {
+            // Algum código foi criado concorrentemente; refaz item a item para isolar o conflito
+            chunk.forEach(item -> persistirIndividualmente(item, results));
+        }
+    }
+
+    private void persistirIndividualmente(PendingCoupon item, CouponBatchItemResultDTO[] results) {
+        // O id e a versão da tentativa revertida fariam o save virar um merge
+        item.coupon().setId(null);
+        item.coupon().setVersion(null);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                repository.saveAndFlush(item.coupon());
+                registrarEvento(item.coupon());
+                repository.flush();
+                entityManager.clear();
+            });
+            registrarCriado(item, results);
+        } catch (DataIntegrityViolationException ex) {
+            boolean duplicado = ConstraintViolations.isUniqueViolation(ex);
+            if (duplicado) {
+                bloomFilter.put(item.coupon().getCode());
+            }
+            results[item.index()] = rejected(item.index(), item.coupon().getCode(),
+                    duplicado ? MENSAGEM_CODIGO_EXISTENTE : MENSAGEM_RESTRICAO_VIOLADA);
+        }
+    }
+
+    // Antes do clear: o evento ainda pendente no contexto seria descartado junto
+    private void registrarEvento(Coupon coupon) {
+        outbox.append(CouponEventType.CREATED, coupon.getId(), coupon.getCode());
+    }
+
+    private void registrarCriado(PendingCoupon item, CouponBatchItemResultDTO[] results) {
+        codeIndex.put(item.coupon().getCode(), item.coupon().getId());
+        bloomFilter.put(item.coupon().getCode());
+        results[item.index()] = created(item);
+    }
+
+    private static CouponBatchItemResultDTO created(PendingCoupon item) {
+        return new CouponBatchItemResultDTO(item.index(), item.coupon().getCode(), BatchItemStatus.CREATED, item.coupon().getId(), null);
+    }
+
+    private static CouponBatchItemResultDTO rejected(int index, String code, String reason) {
+        return new CouponBatchItemResultDTO(index, code, BatchItemStatus.REJECTED, null, reason);
+    }
+
+    private record PendingCoupon(int index, Coupon coupon) {}
+}
@@ -0,0 +1,84 @@
+package com.coupon.api.service;
+
+import com.coupon.api.cache.CouponCodeBloomFilter;
+import com.coupon.api.cache.CouponCodeIndex;
+import com.coupon.api.configuration.CouponGeneratorProperties;
+import com.coupon.api.domain.entity.CouponCodeBlock;
+import com.coupon.api.domain.exception.BusinessException;
+import com.coupon.api.repository.CouponCodeBlockRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gera códigos únicos de 6 caracteres aplicando uma permutação fixa ({@link CouponCodePermutation})
+ * sobre um contador em [0, 36^6). Cada instância reserva no banco blocos de {@link #BLOCK_SIZE}
+ * contadores por uma sequence e gera a partir deles só em memória: instâncias diferentes nunca
+ * recebem o mesmo contador e não conversam a cada código.
+ *
+ * <p>Códigos que o filtro de Bloom aponta como possivelmente existentes (criados manualmente)
+ * são pulados, então o lote gerado não precisa de consulta de existência.</p>
+ */
+@Component
+public class CouponCodeGenerator {
+
+    // Fixo: mudar o tamanho do bloco faria ids antigos e novos cobrirem faixas sobrepostas
+    static final long BLOCK_SIZE = 10_000;
+    static final long CODE_SPACE = 2_176_782_336L; // 36^6
+
+    private final CouponCodeBlockRepository blockRepository;
+    private final CouponCodeBloomFilter bloomFilter;
+    private final TransactionTemplate newTransaction;
+    private final CouponCodePermutation permutation;
+
+    // ReentrantLock em vez de synchronized para não prender threads virtuais durante a reserva
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long end;
+
+    public CouponCodeGenerator(CouponCodeBlockRepository blockRepository, CouponCodeBloomFilter bloomFilter,
+                               PlatformTransactionManager transactionManager, CouponGeneratorProperties properties) {
+        this.blockRepository = blockRepository;
+        this.bloomFilter = bloomFilter;
+        // A reserva é confirmada na hora, mesmo que a transação de quem pediu os códigos falhe
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.permutation = new CouponCodePermutation(CODE_SPACE, properties.key());
+    }
+
+    public List<String> generate(int quantity) {
+        List<String> codes = new ArrayList<>(quantity);
+        lock.lock();
+        try {
+            while (codes.size() < quantity) {
+                if (next == end) {
+                    reservarBloco();
+                }
+                String code = CouponCodeIndex.unpack((int) permutation.permute(next++));
+                if (!bloomFilter.mightContain(code)) {
+                    codes.add(code);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return codes;
+    }
+
+    private void reservarBloco() {
+        CouponCodeBlock block = newTransaction.execute(status ->
+                blockRepository.save(new CouponCodeBlock(LocalDateTime.now())));
+        long start = (block.getId() - 1) * BLOCK_SIZE;
+        if (start >= CODE_SPACE) {
+            throw new BusinessException("O espaço de códigos gerados pelo servidor está esgotado.");
+        }
+        next = start;
+        end = Math.min(start + BLOCK_SIZE, CODE_SPACE);
+    }
+}
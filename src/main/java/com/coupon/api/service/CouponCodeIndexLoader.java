@@ -0,0 +1,44 @@
+package com.coupon.api.service;
+
+import com.coupon.api.cache.CouponCodeBloomFilter;
+import com.coupon.api.cache.CouponCodeIndex;
+import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.repository.CouponCodeView;
+import com.coupon.api.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class CouponCodeIndexLoader implements ApplicationRunner {
+
+    private final CouponRepository repository;
+    private final CouponCodeIndex codeIndex;
+    private final CouponCodeBloomFilter bloomFilter;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void run(ApplicationArguments args) {
+        long total = 0;
+        try (Stream<CouponCodeView> codes = repository.streamCodes()) {
+            for (CouponCodeView view : (Iterable<CouponCodeView>) codes::iterator) {
+                // Códigos deletados continuam reservados pela constraint, então entram só no filtro
+                bloomFilter.put(view.getCode());
+                if (view.getStatus() != CouponStatus.DELETED) {
+                    codeIndex.put(view.getCode(), view.getId());
+                }
+                total++;
+            }
+        }
+        log.info("Índice de códigos carregado com {} cupons vivos ({} códigos no filtro de Bloom).", codeIndex.size(), total);
+    }
+}
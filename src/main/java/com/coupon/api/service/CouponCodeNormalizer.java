@@ -0,0 +1,101 @@
+package com.coupon.api.service;
+
+import com.coupon.api.cache.CouponCodeIndex;
+import com.coupon.api.domain.exception.CouponErrors;
+import org.springframework.stereotype.Component;
+
+/**
+ * Normalização de código de cupom em uma única passada, sem regex.
+ *
+ * <p>Equivale a {@code code.replaceAll("[^a-zA-Z0-9]", "").toUpperCase()}: descarta tudo que não
+ * for letra ASCII ou dígito e converte as letras para maiúsculas (sempre em ASCII, independente
+ * do locale da JVM).</p>
+ */
+@Component
+public class CouponCodeNormalizer {
+
+    public static final int CODE_LENGTH = 6;
+
+    public String normalize(String code) {
+        if (code == null) return "";
+
+        int length = code.length();
+        char[] buffer = null;
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            char c = code.charAt(i);
+            char normalized = normalizeChar(c);
+            if (buffer == null) {
+                if (normalized == c) {
+                    size++;
+                    continue;
+                }
+                // Primeiro caractere alterado: só agora copia o prefixo já aceito
+                buffer = new char[length];
+                code.getChars(0, size, buffer, 0);
+            }
+            if (normalized != 0) {
+                buffer[size++] = normalized;
+            }
+        }
+        return buffer == null ? code : new String(buffer, 0, size);
+    }
+
+    /**
+     * Normaliza e valida o tamanho na mesma passada, rejeitando entradas longas assim que o
+     * sétimo caractere válido aparece.
+     */
+    public String normalizeAndValidate(String code) {
+        if (code == null) throw CouponErrors.INVALID_CODE_LENGTH;
+
+        char[] buffer = new char[CODE_LENGTH];
+        int size = 0;
+        boolean unchanged = true;
+        for (int i = 0, length = code.length(); i < length; i++) {
+            char c = code.charAt(i);
+            char normalized = normalizeChar(c);
+            if (normalized == 0) {
+                unchanged = false;
+                continue;
+            }
+            if (size == CODE_LENGTH) throw CouponErrors.INVALID_CODE_LENGTH;
+            unchanged &= normalized == c;
+            buffer[size++] = normalized;
+        }
+        if (size != CODE_LENGTH) throw CouponErrors.INVALID_CODE_LENGTH;
+        return unchanged ? code : new String(buffer);
+    }
+
+    /**
+     * Forma compacta (ver {@link CouponCodeIndex#pack(String)}) do código normalizado, calculada
+     * sem alocar, ou {@link CouponCodeIndex#INVALID} se o código normalizado não tiver 6 caracteres.
+     */
+    public int normalizeToPacked(String code) {
+        if (code == null) return CouponCodeIndex.INVALID;
+
+        int packed = 0;
+        int size = 0;
+        for (int i = 0, length = code.length(); i < length; i++) {
+            int digit = digit(code.charAt(i));
+            if (digit < 0) continue;
+            if (size == CODE_LENGTH) return CouponCodeIndex.INVALID;
+            packed = packed * 36 + digit;
+            size++;
+        }
+        return size == CODE_LENGTH ? packed : CouponCodeIndex.INVALID;
+    }
+
+    // Retorna 0 para caracteres descartados
+    private static char normalizeChar(char c) {
+        if ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z')) return c;
+        if (c >= 'a' && c <= 'z') return (char) (c - ('a' - 'A'));
+        return 0;
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'A' && c <= 'Z') return c - 'A' + 10;
+        if (c >= 'a' && c <= 'z') return c - 'a' + 10;
+        return -1;
+    }
+}
@@ -0,0 +1,78 @@
+package com.coupon.api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Permutação pseudoaleatória de [0, domain): uma rede de Feistel balanceada sobre o menor número
+ * par de bits que cobre o domínio, com cycle-walking para descartar as saídas fora dele. Por ser
+ * uma bijeção, contadores distintos sempre geram valores distintos, sem consultar nada.
+ */
+public final class CouponCodePermutation {
+
+    private static final int ROUNDS = 6;
+
+    private final long domain;
+    private final int halfBits;
+    private final int halfMask;
+    private final int[] roundKeys = new int[ROUNDS];
+
+    public CouponCodePermutation(long domain, String key) {
+        if (domain < 2 || domain > 1L << 32) {
+            throw new IllegalArgumentException("Domínio fora do intervalo suportado: " + domain);
+        }
+        this.domain = domain;
+        int bits = 64 - Long.numberOfLeadingZeros(domain - 1);
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (int) ((1L << halfBits) - 1);
+
+        byte[] digest = sha256(key);
+        for (int i = 0; i < ROUNDS; i++) {
+            roundKeys[i] = (digest[4 * i] & 0xFF) << 24 | (digest[4 * i + 1] & 0xFF) << 16
+                    | (digest[4 * i + 2] & 0xFF) << 8 | (digest[4 * i + 3] & 0xFF);
+        }
+    }
+
+    public long permute(long value) {
+        if (value < 0 || value >= domain) {
+            throw new IllegalArgumentException("Valor fora do domínio: " + value);
+        }
+        // Em média menos de duas voltas: o domínio ocupa mais da metade do espaço da rede
+        long result = value;
+        do {
+            result = encrypt(result);
+        } while (result >= domain);
+        return result;
+    }
+
+    private long encrypt(long value) {
+        int left = (int) (value >>> halfBits) & halfMask;
+        int right = (int) value & halfMask;
+        for (int i = 0; i < ROUNDS; i++) {
+            int next = left ^ (round(right, roundKeys[i]) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (long) left << halfBits | right;
+    }
+
+    // Finalizador do MurmurHash3 (32 bits) sobre a metade direita misturada com a chave da rodada
+    private static int round(int half, int key) {
+        int h = half * 0x9E3779B1 ^ key;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static byte[] sha256(String key) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
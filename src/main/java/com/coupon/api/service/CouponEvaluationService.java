@@ -0,0 +1,162 @@
+package com.coupon.api.service;
+
+import com.coupon.api.cache.CouponCodeIndex;
+import com.coupon.api.cache.CouponResponseCache;
+import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.domain.enums.CouponVerdict;
+import com.coupon.api.domain.exception.BusinessException;
+import com.coupon.api.domain.exception.ErrorCode;
+import com.coupon.api.dto.CouponEvaluateRequestDTO;
+import com.coupon.api.dto.CouponEvaluateResponseDTO;
+import com.coupon.api.dto.CouponEvaluationDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.repository.ArchivedCouponRepository;
+import com.coupon.api.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Avaliação de vários cupons de uma vez para o checkout. Códigos são resolvidos pelo índice em
+ * memória, ids pelo cache de leitura, e o que sobrar vai ao banco em um único IN por id mais um
+ * IN por código para os códigos fora do índice (ex: deletados ou criados em outra instância). O
+ * filtro de Bloom local não entra aqui: ele só conhece o que esta instância carregou ou criou.
+ * O que nem a tabela quente tem é procurado no arquivo ({@code tb_coupons_archive}), como no
+ * {@code GET /coupon/{id}}: um cupom arquivado é avaliado como DELETED, não como inexistente.
+ *
+ * <p>O veredito é consultivo: vem do cache quando possível e pode estar alguns instantes atrás de
+ * outra instância. Quem garante o uso é o resgate, que aplica as mesmas regras no UPDATE.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponEvaluationService {
+
+    static final int MAXIMO_ITENS = 500;
+
+    private final CouponRepository repository;
+    private final ArchivedCouponRepository archiveRepository;
+    private final CouponResponseCache cache;
+    private final CouponCodeIndex codeIndex;
+    private final CouponCodeNormalizer normalizer;
+
+    public CouponEvaluateResponseDTO evaluate(CouponEvaluateRequestDTO request) {
+        List<String> codes = request.codes() == null ? List.of() : request.codes();
+        List<UUID> ids = request.ids() == null ? List.of() : request.ids();
+        int total = codes.size() + ids.size();
+        if (total == 0) {
+            throw new BusinessException(ErrorCode.INVALID_BATCH, "Informe ao menos um código ou id para avaliação.");
+        }
+        if (total > MAXIMO_ITENS) {
+            throw new BusinessException(ErrorCode.INVALID_BATCH, "A avaliação excede o limite de " + MAXIMO_ITENS + " itens por requisição.");
+        }
+
+        Map<UUID, CouponResponseDTO> porId = new HashMap<>();
+        Set<UUID> idsPendentes = new HashSet<>();
+        Set<String> codigosPendentes = new HashSet<>();
+
+        String[] codigos = new String[codes.size()];
+        UUID[] idsPorCodigo = new UUID[codes.size()];
+        for (int i = 0; i < codes.size(); i++) {
+            String codigo = normalizer.normalize(codes.get(i));
+            if (CouponCodeIndex.pack(codigo) == CouponCodeIndex.INVALID) {
+                continue;
+            }
+            codigos[i] = codigo;
+            UUID id = codeIndex.get(codigo).orElse(null);
+            if (id != null) {
+                idsPorCodigo[i] = id;
+                resolverPorCache(id, porId, idsPendentes);
+            } else {
+                codigosPendentes.add(codigo);
+            }
+        }
+        for (UUID id : ids) {
+            if (id != null) {
+                resolverPorCache(id, porId, idsPendentes);
+            }
+        }
+
+        Map<String, CouponResponseDTO> porCodigo = new HashMap<>();
+        if (!idsPendentes.isEmpty()) {
+            repository.findResponsesByIdIn(idsPendentes).forEach(coupon -> porId.put(coupon.id(), coupon));
+            idsPendentes.removeAll(porId.keySet());
+            if (!idsPendentes.isEmpty()) {
+                archiveRepository.findResponsesByIdIn(idsPendentes).forEach(coupon -> porId.put(coupon.id(), coupon));
+            }
+        }
+        if (!codigosPendentes.isEmpty()) {
+            repository.findResponsesByCodeIn(codigosPendentes).forEach(coupon -> porCodigo.put(coupon.code(), coupon));
+            codigosPendentes.removeAll(porCodigo.keySet());
+            if (!codigosPendentes.isEmpty()) {
+                archiveRepository.findResponsesByCodeIn(codigosPendentes)
+                        .forEach(coupon -> porCodigo.putIfAbsent(coupon.code(), coupon));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CouponEvaluationDTO> results = new ArrayList<>(total);
+        for (int i = 0; i < codes.size(); i++) {
+            if (codigos[i] == null) {
+                results.add(new CouponEvaluationDTO(codes.get(i), null, CouponVerdict.INVALID_CODE, null));
+                continue;
+            }
+            CouponResponseDTO coupon = idsPorCodigo[i] != null ? porId.get(idsPorCodigo[i]) : porCodigo.get(codigos[i]);
+            results.add(avaliar(codigos[i], idsPorCodigo[i], coupon, now));
+        }
+        for (UUID id : ids) {
+            results.add(avaliar(null, id, id == null ? null : porId.get(id), now));
+        }
+
+        int usable = (int) results.stream().filter(result -> result.verdict() == CouponVerdict.USABLE).count();
+        return new CouponEvaluateResponseDTO(usable, results);
+    }
+
+    private void resolverPorCache(UUID id, Map<UUID, CouponResponseDTO> porId, Set<UUID> idsPendentes) {
+        if (porId.containsKey(id)) {
+            return;
+        }
+        CouponResponseDTO cached = cache.peek(id);
+        if (cached != null) {
+            porId.put(id, cached);
+        } else {
+            idsPendentes.add(id);
+        }
+    }
+
+    // Mesmas regras do UPDATE condicional de resgate
+    private static CouponEvaluationDTO avaliar(String code, UUID id, CouponResponseDTO coupon, LocalDateTime now) {
+        if (coupon == null) {
+            return new CouponEvaluationDTO(code, id, CouponVerdict.NOT_FOUND, null);
+        }
+        CouponVerdict verdict = verdictOf(coupon, now);
+        return new CouponEvaluationDTO(coupon.code(), coupon.id(), verdict,
+                verdict == CouponVerdict.USABLE ? coupon.discountValue() : null);
+    }
+
+    private static CouponVerdict verdictOf(CouponResponseDTO coupon, LocalDateTime now) {
+        if (coupon.status() == CouponStatus.DELETED) {
+            return CouponVerdict.DELETED;
+        }
+        if (coupon.status() != CouponStatus.ACTIVE) {
+            return CouponVerdict.INACTIVE;
+        }
+        if (!Boolean.TRUE.equals(coupon.published())) {
+            return CouponVerdict.NOT_PUBLISHED;
+        }
+        if (Boolean.TRUE.equals(coupon.redeemed())) {
+            return CouponVerdict.REDEEMED;
+        }
+        if (!coupon.expirationDate().isAfter(now)) {
+            return CouponVerdict.EXPIRED;
+        }
+        return CouponVerdict.USABLE;
+    }
+}
@@ -0,0 +1,95 @@
+package com.coupon.api.service;
+
+import com.coupon.api.cache.CouponResponseCache;
+import com.coupon.api.configuration.CouponExpirationProperties;
+import com.coupon.api.domain.enums.CouponEventType;
+import com.coupon.api.repository.CouponCodeView;
+import com.coupon.api.repository.CouponRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Move cupons ACTIVE expirados para INACTIVE em blocos limitados de UPDATE, sem carregar
+ * entidades. Assim o status persistido já reflete a expiração e as leituras não precisam
+ * recalcular nada.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "coupon.expiration", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CouponExpirationSweeper {
+
+    private final CouponRepository repository;
+    private final CouponResponseCache cache;
+    private final CouponOutbox outbox;
+    private final TransactionTemplate transactionTemplate;
+    private final CouponExpirationProperties properties;
+    private final Counter processed;
+    private final Timer runs;
+
+    public CouponExpirationSweeper(CouponRepository repository, CouponResponseCache cache, CouponOutbox outbox,
+                                   TransactionTemplate transactionTemplate, CouponExpirationProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.cache = cache;
+        this.outbox = outbox;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.processed = Counter.builder("coupon.expiration.processed")
+                .description("Cupons expirados movidos para INACTIVE")
+                .register(meterRegistry);
+        this.runs = Timer.builder("coupon.expiration.run")
+                .description("Duração de cada execução da varredura de expiração")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.expiration.interval:PT1M}", initialDelayString = "${coupon.expiration.interval:PT1M}")
+    public void sweep() {
+        runs.record(this::sweepNow);
+    }
+
+    int sweepNow() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        Chunk chunk;
+        do {
+            // Um bloco por transação, para não segurar locks sobre a tabela inteira
+            chunk = transactionTemplate.execute(status -> {
+                List<CouponCodeView> expired = repository.findExpiredActive(now, Limit.of(properties.chunkSize()));
+                if (expired.isEmpty()) {
+                    return Chunk.EMPTY;
+                }
+                // As linhas seguem travadas até o commit: o UPDATE muda exatamente as selecionadas,
+                // então cada evento EXPIRED corresponde a uma mudança de status que aconteceu
+                List<UUID> expiredIds = expired.stream().map(CouponCodeView::getId).toList();
+                int deactivated = repository.deactivate(expiredIds);
+                expired.forEach(view -> outbox.append(CouponEventType.EXPIRED, view.getId(), view.getCode()));
+                return new Chunk(expiredIds, deactivated);
+            });
+            chunk.ids().forEach(cache::evict);
+            // Conta as linhas que o UPDATE de fato alterou, não as selecionadas
+            processed.increment(chunk.deactivated());
+            total += chunk.deactivated();
+        } while (chunk.ids().size() == properties.chunkSize());
+
+        if (total > 0) {
+            log.info("{} cupons expirados movidos para INACTIVE.", total);
+        }
+        return total;
+    }
+
+    private record Chunk(List<UUID> ids, int deactivated) {
+
+        private static final Chunk EMPTY = new Chunk(List.of(), 0);
+    }
+}
@@ -0,0 +1,148 @@
+package com.coupon.api.service;
+
+import com.coupon.api.configuration.CouponExportProperties;
+import com.coupon.api.domain.enums.ExportFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Exportação da tabela inteira lendo por cursor (fetch size configurável, somente avanço) e
+ * escrevendo cada linha direto na saída, sem entidades nem DTOs: o consumo de memória não
+ * depende do tamanho da tabela.
+ *
+ * <p>Os cupons já arquivados ({@code tb_coupons_archive}) entram no mesmo resultado, como
+ * DELETED: o arquivamento muda onde a linha fica, não o conteúdo do relatório.</p>
+ */
+@Service
+public class CouponExportService {
+
+    private static final String SQL = """
+            select id, code, description, discount_value, expiration_date, published, redeemed, status
+            from tb_coupons
+            union all
+            select id, code, description, discount_value, expiration_date, published, redeemed, status
+            from tb_coupons_archive
+            """;
+    private static final String CSV_HEADER = "id,code,description,discountValue,expirationDate,published,redeemed,status";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+
+    public CouponExportService(DataSource dataSource, PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper, CouponExportProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.fetchSize());
+        // Alguns drivers (ex: PostgreSQL) só usam cursor de servidor com autocommit desligado
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    public void export(ExportFormat format, OutputStream out) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try {
+                switch (format) {
+                    case NDJSON -> exportNdjson(out);
+                    case CSV -> exportCsv(out);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private void exportNdjson(OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(new SerializedString(""));
+            jdbcTemplate.query(SQL, (RowCallbackHandler) rs -> writeJson(generator, rs));
+        }
+    }
+
+    private void exportCsv(OutputStream out) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            jdbcTemplate.query(SQL, (RowCallbackHandler) rs -> writeCsv(writer, rs));
+        }
+    }
+
+    private static void writeJson(JsonGenerator generator, ResultSet rs) throws SQLException {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("id", rs.getString("id"));
+            generator.writeStringField("code", rs.getString("code"));
+            generator.writeStringField("description", rs.getString("description"));
+            generator.writeFieldName("discountValue");
+            generator.writeNumber(rs.getBigDecimal("discount_value"));
+            generator.writeStringField("expirationDate", format(rs.getObject("expiration_date", LocalDateTime.class)));
+            generator.writeBooleanField("published", rs.getBoolean("published"));
+            generator.writeBooleanField("redeemed", rs.getBoolean("redeemed"));
+            generator.writeStringField("status", rs.getString("status"));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeCsv(Writer writer, ResultSet rs) throws SQLException {
+        try {
+            writer.write(rs.getString("id"));
+            writer.write(',');
+            writer.write(rs.getString("code"));
+            writer.write(',');
+            writeCsvText(writer, rs.getString("description"));
+            writer.write(',');
+            writer.write(rs.getBigDecimal("discount_value").toPlainString());
+            writer.write(',');
+            writer.write(format(rs.getObject("expiration_date", LocalDateTime.class)));
+            writer.write(',');
+            writer.write(Boolean.toString(rs.getBoolean("published")));
+            writer.write(',');
+            writer.write(Boolean.toString(rs.getBoolean("redeemed")));
+            writer.write(',');
+            writer.write(rs.getString("status"));
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // RFC 4180: aspas só quando o texto tem separador, aspas ou quebra de linha
+    private static void writeCsvText(Writer writer, String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return DATE_FORMAT.format(dateTime);
+    }
+}
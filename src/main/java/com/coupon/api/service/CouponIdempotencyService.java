@@ -0,0 +1,84 @@
+package com.coupon.api.service;
+
+import com.coupon.api.configuration.CouponIdempotencyProperties;
+import com.coupon.api.domain.exception.BusinessException;
+import com.coupon.api.domain.exception.CouponErrors;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Service;
+
+/**
+ * Criação idempotente pelo header {@code Idempotency-Key}: a primeira requisição com uma chave
+ * cria o cupom e guarda a resposta; as repetições (retries do cliente) recebem a mesma resposta
+ * sem abrir transação nem tocar no banco.
+ *
+ * <p>As chaves valem por cliente (a mesma identidade dos limites por cliente), então dois clientes
+ * que escolham a mesma chave não recebem a resposta um do outro. Ficam em memória, por instância e
+ * pelo TTL configurado. Falhas não são guardadas, então uma nova tentativa com a mesma chave
+ * executa de novo.</p>
+ */
+@Service
+public class CouponIdempotencyService {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final CouponService couponService;
+    private final Cache<ScopedKey, Attempt> attempts;
+
+    public CouponIdempotencyService(CouponService couponService, CouponIdempotencyProperties properties) {
+        this.couponService = couponService;
+        this.attempts = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .build();
+    }
+
+    public Result create(String client, String key, CouponRequestDTO request) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException("A chave de idempotência deve ter entre 1 e " + MAX_KEY_LENGTH + " caracteres.");
+        }
+
+        ScopedKey scopedKey = new ScopedKey(client, key);
+        Attempt attempt = new Attempt(request);
+        Attempt existing = attempts.asMap().putIfAbsent(scopedKey, attempt);
+        if (existing != null) {
+            return replay(existing, request);
+        }
+
+        try {
+            CouponResponseDTO response = couponService.create(request);
+            attempt.response = response;
+            return new Result(response, false);
+        } catch (RuntimeException | Error ex) {
+            attempts.asMap().remove(scopedKey, attempt);
+            throw ex;
+        }
+    }
+
+    private static Result replay(Attempt existing, CouponRequestDTO request) {
+        if (!existing.request.equals(request)) {
+            throw CouponErrors.IDEMPOTENCY_KEY_REUSED;
+        }
+        CouponResponseDTO response = existing.response;
+        if (response == null) {
+            throw CouponErrors.IDEMPOTENCY_KEY_IN_PROGRESS;
+        }
+        return new Result(response, true);
+    }
+
+    public record Result(CouponResponseDTO response, boolean replayed) {}
+
+    private record ScopedKey(String client, String key) {}
+
+    private static final class Attempt {
+
+        private final CouponRequestDTO request;
+        private volatile CouponResponseDTO response;
+
+        private Attempt(CouponRequestDTO request) {
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.coupon.api.service;
+
+import com.coupon.api.domain.entity.CouponOutboxEvent;
+import com.coupon.api.domain.enums.CouponEventType;
+import com.coupon.api.repository.CouponOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Registra eventos do ciclo de vida no outbox. Exige uma transação em andamento: o evento é
+ * gravado junto com a mudança do cupom ou não é gravado, e a entrega fica a cargo do
+ * {@link CouponOutboxRelay}, fora da requisição.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponOutbox {
+
+    private final CouponOutboxRepository repository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(CouponEventType type, UUID couponId, String code) {
+        repository.save(new CouponOutboxEvent(type, couponId, code, LocalDateTime.now()));
+    }
+}
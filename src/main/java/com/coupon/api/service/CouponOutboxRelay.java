@@ -0,0 +1,120 @@
+package com.coupon.api.service;
+
+import com.coupon.api.configuration.CouponOutboxProperties;
+import com.coupon.api.domain.entity.CouponOutboxEvent;
+import com.coupon.api.event.CouponEvent;
+import com.coupon.api.event.CouponEventSink;
+import com.coupon.api.repository.CouponOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Entrega os eventos do outbox ao {@link CouponEventSink} em lotes, na ordem de gravação, e só
+ * os remove depois que o destino confirmou (entrega pelo menos uma vez).
+ *
+ * <p>O relay puxa no próprio ritmo: no máximo {@code maxBatchesPerRun} lotes por execução e, se o
+ * destino falhar, espera um backoff exponencial (até {@code maxBackoff}) antes de tentar de novo.
+ * Um destino lento ou fora do ar só faz o outbox crescer no banco; as requisições não esperam
+ * por ele.</p>
+ *
+ * <p>Cada lote é lido, entregue e removido na mesma transação, com as linhas travadas por
+ * {@link CouponOutboxRepository#claimOldest}: com várias instâncias, cada relay entrega lotes
+ * diferentes, e uma falha no destino só libera a trava para a próxima tentativa.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "coupon.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CouponOutboxRelay {
+
+    private final CouponOutboxRepository repository;
+    private final CouponEventSink sink;
+    private final CouponOutboxProperties properties;
+    private final TransactionTemplate transaction;
+    private final Counter delivered;
+    private final Counter failures;
+    private final Timer runs;
+
+    // Só a thread do agendador mexe nestes campos
+    private long backoffNanos;
+    private long retryAtNanos;
+
+    public CouponOutboxRelay(CouponOutboxRepository repository, CouponEventSink sink,
+                             CouponOutboxProperties properties, PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.sink = sink;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.delivered = Counter.builder("coupon.outbox.delivered")
+                .description("Eventos do outbox entregues ao destino")
+                .register(meterRegistry);
+        this.failures = Counter.builder("coupon.outbox.failures")
+                .description("Lotes do outbox recusados pelo destino")
+                .register(meterRegistry);
+        this.runs = Timer.builder("coupon.outbox.run")
+                .description("Duração de cada execução do relay do outbox")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.outbox.interval:PT1S}")
+    public void relay() {
+        if (backoffNanos > 0 && System.nanoTime() - retryAtNanos < 0) {
+            return;
+        }
+        runs.record(this::relayNow);
+    }
+
+    int relayNow() {
+        int total = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            int entregues;
+            try {
+                entregues = transaction.execute(status -> entregarLote());
+            } catch (RuntimeException ex) {
+                failures.increment();
+                adiarProximaTentativa();
+                log.warn("Lote do outbox não entregue; nova tentativa em {} ms.", backoffNanos / 1_000_000, ex);
+                return total;
+            }
+
+            backoffNanos = 0;
+            delivered.increment(entregues);
+            total += entregues;
+            if (entregues < properties.batchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    // Uma exceção do destino desfaz a transação: as linhas continuam no outbox e destravadas
+    private int entregarLote() {
+        List<CouponOutboxEvent> pending = repository.claimOldest(Limit.of(properties.batchSize()));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        sink.publish(pending.stream().map(CouponOutboxRelay::toEvent).toList());
+        repository.deleteAllByIdInBatch(pending.stream().map(CouponOutboxEvent::getId).toList());
+        return pending.size();
+    }
+
+    private void adiarProximaTentativa() {
+        long interval = properties.interval().toNanos();
+        backoffNanos = backoffNanos == 0 ? interval : Math.min(backoffNanos * 2, properties.maxBackoff().toNanos());
+        retryAtNanos = System.nanoTime() + backoffNanos;
+    }
+
+    private static CouponEvent toEvent(CouponOutboxEvent event) {
+        return new CouponEvent(event.getId(), event.getEventType(), event.getCouponId(), event.getCode(), event.getOccurredAt());
+    }
+}
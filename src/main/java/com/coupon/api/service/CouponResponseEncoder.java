@@ -0,0 +1,31 @@
+package com.coupon.api.service;
+
+import com.coupon.api.domain.enums.WireFormat;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+
+// Usa os mesmos mappers dos conversores HTTP, então os bytes em cache são idênticos aos do MVC
+@Component
+public class CouponResponseEncoder {
+
+    private final ObjectWriter[] writers = new ObjectWriter[WireFormat.values().length];
+
+    public CouponResponseEncoder(MappingJackson2CborHttpMessageConverter cbor, MappingJackson2SmileHttpMessageConverter smile) {
+        writers[WireFormat.CBOR.ordinal()] = cbor.getObjectMapper().writerFor(CouponResponseDTO.class);
+        writers[WireFormat.SMILE.ordinal()] = smile.getObjectMapper().writerFor(CouponResponseDTO.class);
+    }
+
+    public byte[] encode(WireFormat format, CouponResponseDTO response) {
+        try {
+            return writers[format.ordinal()].writeValueAsBytes(response);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -1,70 +1,278 @@
 package com.coupon.api.service;
 
+import com.coupon.api.cache.CouponCodeBloomFilter;
+import com.coupon.api.cache.CouponCodeIndex;
+import com.coupon.api.cache.CouponResponseCache;
 import com.coupon.api.domain.entity.Coupon;
+import com.coupon.api.domain.enums.CouponEventType;
 import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.domain.enums.WireFormat;
 import com.coupon.api.domain.exception.BusinessException;
+import com.coupon.api.domain.exception.CouponErrors;
+import com.coupon.api.dto.CouponFilterDTO;
+import com.coupon.api.dto.CouponPageDTO;
 import com.coupon.api.dto.CouponRequestDTO;
 import com.coupon.api.dto.CouponResponseDTO;
 import com.coupon.api.mapper.CouponMapper;
+import com.coupon.api.metrics.CouponMetrics;
+import com.coupon.api.metrics.CouponMetrics.DbOperation;
+import com.coupon.api.metrics.CouponMetrics.Operation;
+import com.coupon.api.metrics.CouponMetrics.Outcome;
+import com.coupon.api.repository.ArchivedCouponRepository;
+import com.coupon.api.repository.ConstraintViolations;
+import com.coupon.api.repository.CouponCursor;
 import com.coupon.api.repository.CouponRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class CouponService {
 
+    static final int TAMANHO_PAGINA_PADRAO = 50;
+    static final int TAMANHO_PAGINA_MAXIMO = 500;
+
     private final CouponRepository repository;
+    private final ArchivedCouponRepository archiveRepository;
     private final CouponMapper mapper;
+    private final CouponResponseCache cache;
+    private final CouponCodeIndex codeIndex;
+    private final CouponCodeBloomFilter bloomFilter;
+    private final CouponCodeNormalizer normalizer;
+    private final CouponMetrics metrics;
+    private final CouponResponseEncoder encoder;
+    private final CouponOutbox outbox;
 
     @Transactional
     public CouponResponseDTO create(CouponRequestDTO request) {
+        long start = System.nanoTime();
+        try {
+            String codigoNormalizado = normalizer.normalizeAndValidate(request.code());
 
-        String codigoNormalizado = normalizarCodigo(request.code());
-        validarTamanhoCodigo(codigoNormalizado);
+            // Só consulta o banco quando o filtro não garante que o código é novo
+            if (bloomFilter.mightContain(codigoNormalizado) && repository.existsByCode(codigoNormalizado)) {
+                throw CouponErrors.DUPLICATE_CODE;
+            }
 
-        Coupon coupon = mapper.toEntity(request);
+            Coupon coupon = mapper.toEntity(request);
 
-        coupon.setCode(codigoNormalizado);
-        coupon.setStatus(CouponStatus.ACTIVE);
+            coupon.setCode(codigoNormalizado);
+            coupon.setStatus(CouponStatus.ACTIVE);
 
-        Coupon savedCoupon = repository.save(coupon);
-        return mapper.toResponse(savedCoupon);
+            // O flush antecipa a violação de unicidade para dentro do método, onde ela é medida
+            Coupon savedCoupon = metrics.timeDb(DbOperation.INSERT, () -> insert(coupon));
+            outbox.append(CouponEventType.CREATED, savedCoupon.getId(), savedCoupon.getCode());
+            CouponResponseDTO response = mapper.toResponse(savedCoupon);
+            // Já entra no cache: a primeira leitura não depende da réplica ter recebido o INSERT
+            TransactionHooks.afterCommit(() -> {
+                codeIndex.put(savedCoupon.getCode(), savedCoupon.getId());
+                bloomFilter.put(savedCoupon.getCode());
+                cache.put(response);
+            });
+            metrics.record(Operation.CREATE, Outcome.CREATED, start);
+            return response;
+        } catch (BusinessException ex) {
+            metrics.record(Operation.CREATE, CouponMetrics.outcomeOf(ex.getCode()), start);
+            throw ex;
+        } catch (RuntimeException ex) {
+            metrics.record(Operation.CREATE, Outcome.ERROR, start);
+            throw ex;
+        }
     }
 
     public CouponResponseDTO findById(UUID id) {
-        return repository.findById(id)
+        long start = System.nanoTime();
+        try {
+            CouponResponseDTO response = cache.get(id, this::carregar)
+                    .orElseThrow(() -> CouponErrors.NOT_FOUND);
+            metrics.record(Operation.FIND_BY_ID, Outcome.FOUND, start);
+            return response;
+        } catch (BusinessException ex) {
+            metrics.record(Operation.FIND_BY_ID, CouponMetrics.outcomeOf(ex.getCode()), start);
+            throw ex;
+        } catch (RuntimeException ex) {
+            metrics.record(Operation.FIND_BY_ID, Outcome.ERROR, start);
+            throw ex;
+        }
+    }
+
+    // Mesma busca do findById, com acesso aos bytes serializados que ficam junto da entrada em cache
+    public CouponResponseCache.Encoded findEncodedById(UUID id, WireFormat format) {
+        long start = System.nanoTime();
+        try {
+            CouponResponseCache.Encoded encoded = cache.getEncoded(id, this::carregar, format,
+                            response -> encoder.encode(format, response))
+                    .orElseThrow(() -> CouponErrors.NOT_FOUND);
+            metrics.record(Operation.FIND_BY_ID, Outcome.FOUND, start);
+            return encoded;
+        } catch (BusinessException ex) {
+            metrics.record(Operation.FIND_BY_ID, CouponMetrics.outcomeOf(ex.getCode()), start);
+            throw ex;
+        } catch (RuntimeException ex) {
+            metrics.record(Operation.FIND_BY_ID, Outcome.ERROR, start);
+            throw ex;
+        }
+    }
+
+    public CouponResponseDTO findByCode(String code) {
+        String codigoNormalizado = normalizer.normalizeAndValidate(code);
+        UUID id = resolverIdPorCodigo(codigoNormalizado);
+
+        CouponResponseDTO response = findById(id);
+        if (CouponStatus.DELETED.equals(response.status())) {
+            codeIndex.remove(codigoNormalizado);
+            throw CouponErrors.NOT_FOUND;
+        }
+        return response;
+    }
+
+    @Transactional(readOnly = true)
+    public CouponPageDTO list(CouponFilterDTO filter, String cursor, Integer size) {
+        int limit = size == null ? TAMANHO_PAGINA_PADRAO : Math.max(1, Math.min(size, TAMANHO_PAGINA_MAXIMO));
+        CouponCursor after = cursor == null || cursor.isBlank() ? null : CouponCursor.decode(cursor);
+
+        // Busca um item a mais só para saber se existe próxima página
+        List<CouponResponseDTO> rows = repository.findPage(filter, after, limit + 1);
+        if (rows.size() <= limit) {
+            return new CouponPageDTO(rows, null);
+        }
+
+        List<CouponResponseDTO> items = rows.subList(0, limit);
+        CouponResponseDTO last = items.get(limit - 1);
+        return new CouponPageDTO(items, new CouponCursor(last.expirationDate(), last.id()).encode());
+    }
+
+    // Transacional para que a releitura após o UPDATE aconteça no primário, e não na réplica
+    @Transactional
+    public CouponResponseDTO redeem(UUID id) {
+        int updated;
+        try {
+            updated = repository.redeemIfAvailable(id, LocalDateTime.now());
+        } catch (ConcurrencyFailureException ex) {
+            // Outra transação está resgatando o mesmo cupom neste instante
+            throw CouponErrors.ALREADY_REDEEMED;
+        }
+
+        if (updated == 0) {
+            throw motivoResgateNegado(id);
+        }
+
+        CouponResponseDTO response = repository.findById(id)
                 .map(mapper::toResponse)
-                .orElseThrow(() -> new BusinessException("Cupom não encontrado."));
+                .orElseThrow(() -> CouponErrors.NOT_FOUND);
+        outbox.append(CouponEventType.REDEEMED, id, response.code());
+        TransactionHooks.afterCommit(() -> cache.put(response));
+        return response;
+    }
+
+    @Transactional
+    public CouponResponseDTO redeemByCode(String code) {
+        return redeem(resolverIdPorCodigo(normalizer.normalizeAndValidate(code)));
     }
 
     @Transactional
     public void delete(UUID id) {
-        Coupon coupon = repository.findById(id)
-                .orElseThrow(() -> new BusinessException("Cupom não encontrado com o ID fornecido."));
+        delete(id, null);
+    }
+
+    // expectedVersions vem do If-Match (null = sem precondição): evita apagar por cima de uma alteração não vista
+    @Transactional
+    public void delete(UUID id, Set<Long> expectedVersions) {
+        long start = System.nanoTime();
+        try {
+            Coupon coupon = metrics.timeDb(DbOperation.FIND_BY_ID, () -> repository.findById(id)).orElse(null);
+            if (coupon == null) {
+                throw carregarArquivado(id).isPresent() ? CouponErrors.ALREADY_DELETED : CouponErrors.NOT_FOUND_BY_ID;
+            }
+            if (expectedVersions != null && !expectedVersions.contains(coupon.getVersion())) {
+                throw CouponErrors.PRECONDITION_FAILED;
+            }
+
+            // Implementa o soft delete definido na especificação do negócio
+            if (CouponStatus.DELETED.equals(coupon.getStatus())) {
+                throw CouponErrors.ALREADY_DELETED;
+            }
 
-        // Implementa o soft delete definido na especificação do negócio
-        if (CouponStatus.DELETED.equals(coupon.getStatus())) {
-            throw new BusinessException("Não deve ser possível deletar um cupom já deletado.");
+            coupon.setStatus(CouponStatus.DELETED);
+            coupon.setDeletedAt(LocalDateTime.now());
+            try {
+                // O flush leva o UPDATE ... where version = ? para dentro do método e atualiza a versão do DTO em cache
+                metrics.timeDb(DbOperation.UPDATE, () -> repository.saveAndFlush(coupon));
+            } catch (OptimisticLockingFailureException ex) {
+                // Resgatado, expirado ou deletado entre a leitura e o UPDATE
+                throw expectedVersions != null ? CouponErrors.PRECONDITION_FAILED : CouponErrors.CONCURRENTLY_MODIFIED;
+            }
+            outbox.append(CouponEventType.DELETED, coupon.getId(), coupon.getCode());
+            CouponResponseDTO deleted = mapper.toResponse(coupon);
+            TransactionHooks.afterCommit(() -> {
+                cache.put(deleted);
+                codeIndex.remove(coupon.getCode());
+            });
+            metrics.record(Operation.DELETE, Outcome.DELETED, start);
+        } catch (BusinessException ex) {
+            metrics.record(Operation.DELETE, CouponMetrics.outcomeOf(ex.getCode()), start);
+            throw ex;
+        } catch (RuntimeException ex) {
+            metrics.record(Operation.DELETE, Outcome.ERROR, start);
+            throw ex;
         }
+    }
 
-        coupon.setStatus(CouponStatus.DELETED);
-        coupon.setDeletedAt(LocalDateTime.now());
-        repository.save(coupon);
+    // Cupons deletados há mais tempo só existem no arquivo; o custo dessa segunda busca tem timer próprio
+    private Optional<CouponResponseDTO> carregar(UUID id) {
+        return metrics.timeDb(DbOperation.FIND_BY_ID, () -> repository.findById(id)).map(mapper::toResponse)
+                .or(() -> carregarArquivado(id));
     }
 
-    private String normalizarCodigo(String code) {
-        if (code == null) return "";
-        return code.replaceAll("[^a-zA-Z0-9]", "").toUpperCase();
+    private Optional<CouponResponseDTO> carregarArquivado(UUID id) {
+        return metrics.timeDb(DbOperation.ARCHIVE_FIND_BY_ID, () -> archiveRepository.findResponseById(id));
     }
 
-    private void validarTamanhoCodigo(String code) {
-        if (code.length() != 6) {
-            throw new BusinessException("O código do cupom deve ter exatamente 6 caracteres alfanuméricos após a normalização.");
+    private Coupon insert(Coupon coupon) {
+        try {
+            Coupon saved = repository.save(coupon);
+            repository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException ex) {
+            if (!ConstraintViolations.isUniqueViolation(ex)) {
+                throw ex;
+            }
+            // Criado concorrentemente (ou em outra instância) depois da checagem
+            bloomFilter.put(coupon.getCode());
+            throw CouponErrors.DUPLICATE_CODE;
+        }
+    }
+
+    private UUID resolverIdPorCodigo(String codigoNormalizado) {
+        // O banco só é consultado quando o código não está no índice (ex: criado em outra instância)
+        return codeIndex.get(codigoNormalizado)
+                .or(() -> repository.findLiveIdByCode(codigoNormalizado)
+                        .map(found -> {
+                            codeIndex.put(codigoNormalizado, found);
+                            return found;
+                        }))
+                .orElseThrow(() -> CouponErrors.NOT_FOUND);
+    }
+
+    // Só é chamado quando o UPDATE condicional não afetou nenhuma linha
+    private BusinessException motivoResgateNegado(UUID id) {
+        Coupon coupon = repository.findById(id).orElse(null);
+        if (coupon == null) {
+            return CouponErrors.NOT_FOUND;
+        }
+        if (Boolean.TRUE.equals(coupon.getRedeemed())) {
+            return CouponErrors.ALREADY_REDEEMED;
         }
+        return CouponErrors.NOT_REDEEMABLE;
     }
 }
\ No newline at end of file
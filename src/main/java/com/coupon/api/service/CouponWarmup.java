@@ -0,0 +1,119 @@
+package com.coupon.api.service;
+
+import com.coupon.api.cache.CouponResponseCache;
+import com.coupon.api.configuration.CouponWarmupProperties;
+import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.dto.CouponFilterDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.repository.CouponRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Aquecimento antes de liberar tráfego. Roda como {@link ApplicationRunner}, e o Spring Boot só
+ * marca a aplicação como pronta (readiness ACCEPTING_TRAFFIC) depois que todos os runners
+ * terminam; até lá o balanceador não envia requisições.
+ *
+ * <ol>
+ *     <li>Carrega no cache de respostas os cupons ativos e publicados que vencem primeiro, numa
+ *     única consulta projetada direto em DTO.</li>
+ *     <li>Chama os endpoints de leitura pela porta local (JSON, CBOR, código, listagem, 404 e 400
+ *     de validação) para que Tomcat, Jackson e o MVC já estejam compilados pelo JIT.</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+@Order(10)
+@ConditionalOnProperty(prefix = "coupon.warmup", name = "enabled", havingValue = "true")
+public class CouponWarmup implements ApplicationRunner {
+
+    // Id fixo para o caminho de 404: ocupa uma única entrada negativa no cache
+    private static final UUID MISSING_ID = new UUID(0, 0);
+
+    private final CouponRepository repository;
+    private final CouponResponseCache cache;
+    private final CouponWarmupProperties properties;
+    private final ApplicationContext context;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public CouponWarmup(CouponRepository repository, CouponResponseCache cache, CouponWarmupProperties properties,
+                        ApplicationContext context, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.cache = cache;
+        this.properties = properties;
+        this.context = context;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        List<CouponResponseDTO> hot = carregarCuponsQuentes();
+        int requests = exercitarEndpoints(hot);
+        log.info("Aquecimento concluído em {} ms: {} cupons no cache, {} requisições locais.",
+                (System.nanoTime() - start) / 1_000_000, hot.size(), requests);
+    }
+
+    private List<CouponResponseDTO> carregarCuponsQuentes() {
+        CouponFilterDTO filter = new CouponFilterDTO(CouponStatus.ACTIVE, true, false, LocalDateTime.now(), null);
+        List<CouponResponseDTO> hot = readOnlyTransaction.execute(status ->
+                repository.findPage(filter, null, properties.hotCoupons()));
+        hot.forEach(cache::put);
+        return hot;
+    }
+
+    private int exercitarEndpoints(List<CouponResponseDTO> hot) {
+        // Sem servidor embarcado (ex: testes com MockMvc) não há o que aquecer pela rede
+        if (!(context instanceof WebServerApplicationContext web) || web.getWebServer() == null) {
+            return 0;
+        }
+        RestClient client = RestClient.builder()
+                .baseUrl("http://localhost:" + web.getWebServer().getPort())
+                .defaultStatusHandler(HttpStatusCode::isError, (request, response) -> { })
+                .build();
+
+        long deadline = System.nanoTime() + properties.maxDuration().toNanos();
+        int sent = 0;
+        try {
+            while (sent < properties.requests() && System.nanoTime() < deadline) {
+                CouponResponseDTO coupon = hot.isEmpty() ? null : hot.get(sent % hot.size());
+                exercitar(client, coupon, sent);
+                sent++;
+            }
+        } catch (RestClientException ex) {
+            // Aquecimento é melhor esforço: uma falha aqui não pode impedir a subida
+            log.warn("Aquecimento dos endpoints interrompido após {} requisições: {}", sent, ex.getMessage());
+        }
+        return sent;
+    }
+
+    private static void exercitar(RestClient client, CouponResponseDTO coupon, int iteration) {
+        UUID id = coupon == null ? MISSING_ID : coupon.id();
+        switch (iteration % 6) {
+            case 0 -> client.get().uri("/coupon/{id}", id).retrieve().toBodilessEntity();
+            case 1 -> client.get().uri("/coupon/{id}", id).accept(MediaType.APPLICATION_CBOR).retrieve().toBodilessEntity();
+            case 2 -> client.get().uri("/coupon/code/{code}", coupon == null ? "ZZZZZZ" : coupon.code()).retrieve().toBodilessEntity();
+            case 3 -> client.get().uri("/coupon?status=ACTIVE&size=50").retrieve().toBodilessEntity();
+            case 4 -> client.get().uri("/coupon/{id}", MISSING_ID).retrieve().toBodilessEntity();
+            // Corpo inválido: exercita desserialização, Bean Validation e o handler de erros sem gravar nada
+            default -> client.post().uri("/coupon").contentType(MediaType.APPLICATION_JSON).body("{}").retrieve().toBodilessEntity();
+        }
+    }
+}
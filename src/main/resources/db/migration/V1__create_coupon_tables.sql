@@ -0,0 +1,28 @@
+create table tb_coupons (
+    id              uuid           not null,
+    code            varchar(6)     not null,
+    description     varchar(255)   not null,
+    discount_value  numeric(38, 2) not null,
+    expiration_date timestamp(6)   not null,
+    published       boolean        not null,
+    redeemed        boolean        not null,
+    status          varchar(16)    not null,
+    deleted_at      timestamp(6),
+    constraint pk_coupons primary key (id),
+    -- A unicidade também cria o índice usado nas buscas por código
+    constraint uk_coupons_code unique (code)
+);
+
+-- Paginação por cursor e varredura de expiração: (expiration_date, id) sozinhos ou após o filtro
+create index idx_coupons_expiration_id on tb_coupons (expiration_date, id);
+create index idx_coupons_status_expiration_id on tb_coupons (status, expiration_date, id);
+create index idx_coupons_published_redeemed_expiration on tb_coupons (published, redeemed, expiration_date);
+
+-- Blocos de contadores do gerador de códigos
+create sequence coupon_code_block_seq start with 1 increment by 1;
+
+create table tb_coupon_code_blocks (
+    id          bigint       not null,
+    reserved_at timestamp(6) not null,
+    constraint pk_coupon_code_blocks primary key (id)
+);
@@ -0,0 +1,11 @@
+-- Outbox dos eventos de cupom: gravado na transação da mudança, removido pelo relay após a entrega
+create sequence coupon_outbox_seq start with 1 increment by 50;
+
+create table tb_coupon_outbox (
+    id          bigint       not null,
+    event_type  varchar(16)  not null,
+    coupon_id   uuid         not null,
+    code        varchar(6)   not null,
+    occurred_at timestamp(6) not null,
+    constraint pk_coupon_outbox primary key (id)
+);
@@ -0,0 +1,16 @@
+-- Cupons deletados há mais que a retenção; sem unicidade no código, que volta a ficar livre na tabela quente
+create table tb_coupons_archive (
+    id              uuid           not null,
+    code            varchar(6)     not null,
+    description     varchar(255)   not null,
+    discount_value  numeric(38, 2) not null,
+    expiration_date timestamp(6)   not null,
+    published       boolean        not null,
+    redeemed        boolean        not null,
+    status          varchar(16)    not null,
+    deleted_at      timestamp(6),
+    archived_at     timestamp(6)   not null,
+    constraint pk_coupons_archive primary key (id)
+);
+
+create index idx_coupons_archive_code on tb_coupons_archive (code);
@@ -0,0 +1,4 @@
+-- Lock otimista e ETag do GET /coupon/{id}; linhas existentes começam na versão 0
+alter table tb_coupons add column version bigint default 0 not null;
+
+alter table tb_coupons_archive add column version bigint default 0 not null;
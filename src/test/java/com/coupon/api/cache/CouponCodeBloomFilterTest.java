@@ -0,0 +1,55 @@
+package com.coupon.api.cache;
+
+import com.coupon.api.configuration.CouponBloomFilterProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CouponCodeBloomFilterTest {
+
+    @Test
+    @DisplayName("Nunca deve dar falso negativo e deve manter a taxa de falsos positivos próxima da configurada")
+    void shouldHaveNoFalseNegativesAndBoundedFalsePositives() {
+        int inserted = 20_000;
+        CouponCodeBloomFilter filter = new CouponCodeBloomFilter(new CouponBloomFilterProperties(inserted, 0.01));
+
+        // Códigos sequenciais, como os gerados em campanha, são o pior caso para hashes fracos
+        for (int i = 0; i < inserted; i++) {
+            filter.put(CouponCodeIndex.unpack(i));
+        }
+        for (int i = 0; i < inserted; i++) {
+            assertTrue(filter.mightContain(CouponCodeIndex.unpack(i)));
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(CouponCodeIndex.unpack(1_000_000 + i * 7))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < probes * 0.02, "falsos positivos: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Deve tratar códigos fora do formato como possivelmente existentes")
+    void shouldFallBackToDatabaseForUnpackableCodes() {
+        CouponCodeBloomFilter filter = new CouponCodeBloomFilter(new CouponBloomFilterProperties(100, 0.01));
+
+        assertFalse(filter.mightContain("ABC123"));
+        assertTrue(filter.mightContain("abc-12"));
+    }
+
+    @Test
+    @DisplayName("Deve dimensionar o vetor de bits a partir do volume esperado")
+    void shouldSizeFromExpectedInsertions() {
+        CouponCodeBloomFilter filter = new CouponCodeBloomFilter(new CouponBloomFilterProperties(1_000_000, 0.01));
+
+        // ~9,6 bits por elemento e 7 funções de hash para 1%
+        assertEquals(9_585_088, filter.bitCount());
+        assertEquals(7, filter.hashCount());
+        assertThrows(IllegalArgumentException.class,
+                () -> new CouponCodeBloomFilter(new CouponBloomFilterProperties(100, 1.5)));
+    }
+}
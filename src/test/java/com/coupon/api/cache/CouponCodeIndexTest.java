@@ -0,0 +1,57 @@
+package com.coupon.api.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CouponCodeIndexTest {
+
+    @Test
+    @DisplayName("Deve compactar e descompactar códigos nos extremos do alfabeto")
+    void shouldPackAndUnpackCodes() {
+        for (String code : new String[]{"000000", "ZZZZZZ", "ABC123", "9Z0A1Y"}) {
+            int packed = CouponCodeIndex.pack(code);
+            assertNotEquals(CouponCodeIndex.INVALID, packed);
+            assertEquals(code, CouponCodeIndex.unpack(packed));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar códigos fora do formato normalizado")
+    void shouldRejectCodesOutsideNormalizedFormat() {
+        assertEquals(CouponCodeIndex.INVALID, CouponCodeIndex.pack(null));
+        assertEquals(CouponCodeIndex.INVALID, CouponCodeIndex.pack("ABC12"));
+        assertEquals(CouponCodeIndex.INVALID, CouponCodeIndex.pack("abc123"));
+        assertEquals(CouponCodeIndex.INVALID, CouponCodeIndex.pack("ABC-12"));
+    }
+
+    @Test
+    @DisplayName("Deve manter inclusões e remoções consistentes ao crescer a tabela")
+    void shouldStayConsistentAcrossResizesAndRemovals() {
+        CouponCodeIndex index = new CouponCodeIndex();
+        Map<String, UUID> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            String code = CouponCodeIndex.unpack(random.nextInt(Integer.MAX_VALUE));
+            UUID id = UUID.randomUUID();
+            index.put(code, id);
+            expected.put(code, id);
+        }
+        expected.keySet().stream().limit(5_000).toList().forEach(code -> {
+            index.remove(code);
+            expected.remove(code);
+        });
+
+        assertEquals(expected.size(), index.size());
+        expected.forEach((code, id) -> assertEquals(Optional.of(id), index.get(code)));
+        assertEquals(Optional.empty(), index.get("ZZZZZZ"));
+    }
+}
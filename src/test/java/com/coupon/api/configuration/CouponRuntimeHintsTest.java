@@ -0,0 +1,37 @@
+package com.coupon.api.configuration;
+
+import com.coupon.api.domain.entity.Coupon;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.repository.CouponCodeView;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.data.projection.TargetAware;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CouponRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    CouponRuntimeHintsTest() {
+        new CouponRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void shouldRegisterEntityAndResponseConstructor() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Coupon.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(CouponResponseDTO.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onConstructor(CouponResponseDTO.class.getDeclaredConstructors()[0])).accepts(hints);
+    }
+
+    @Test
+    void shouldRegisterProjectionProxyAndResources() {
+        assertThat(RuntimeHintsPredicates.proxies()
+                .forInterfaces(AopProxyUtils.completeJdkProxyInterfaces(CouponCodeView.class, TargetAware.class)))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__create_coupon_tables.sql")).accepts(hints);
+    }
+}
@@ -0,0 +1,66 @@
+package com.coupon.api.configuration;
+
+import com.coupon.api.domain.entity.Coupon;
+import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.repository.CouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("replica")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @Test
+    @DisplayName("Deve enviar transações somente leitura para a réplica e as demais para o primário")
+    void shouldRouteByTransactionReadOnlyFlag() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        TransactionTemplate read = new TransactionTemplate(transactionManager);
+        read.setReadOnly(true);
+
+        assertEquals("primary", write.execute(status -> jdbcTemplate.queryForObject("SELECT @ROLE", String.class)));
+        assertEquals("replica", read.execute(status -> jdbcTemplate.queryForObject("SELECT @ROLE", String.class)));
+    }
+
+    @Test
+    @DisplayName("Não deve fazer flush de entidades alteradas dentro de transação somente leitura")
+    void shouldSkipFlushInReadOnlyTransactions() {
+        Coupon coupon = new Coupon();
+        coupon.setCode("RPL001");
+        coupon.setDescription("Original");
+        coupon.setDiscountValue(new BigDecimal("5.0"));
+        coupon.setStatus(CouponStatus.ACTIVE);
+        coupon.setExpirationDate(LocalDateTime.now().plusDays(1));
+        coupon.setPublished(true);
+        coupon.setRedeemed(false);
+        UUID id = repository.save(coupon).getId();
+
+        TransactionTemplate read = new TransactionTemplate(transactionManager);
+        read.setReadOnly(true);
+        read.executeWithoutResult(status -> repository.findById(id).orElseThrow().setDescription("Alterada"));
+
+        assertEquals("Original", repository.findById(id).orElseThrow().getDescription());
+    }
+}
@@ -3,6 +3,10 @@ package com.coupon.api.controller;
 import com.coupon.api.domain.entity.Coupon;
 import com.coupon.api.domain.enums.CouponStatus;
 import com.coupon.api.repository.CouponRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,11 +14,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
 
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -117,4 +130,471 @@ class CouponControllerIntegrationTest {
                 .andExpect(jsonPath("$.title").value("Erro de validação nos dados enviados"))
                 .andExpect(jsonPath("$.errors").isArray());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve criar cupons em lote retornando o resultado de cada item")
+    void shouldCreateCouponsInBatch() throws Exception {
+        Coupon existing = new Coupon();
+        existing.setCode("BAT003");
+        existing.setDescription("Cupom já existente");
+        existing.setDiscountValue(new BigDecimal("5.0"));
+        existing.setStatus(CouponStatus.ACTIVE);
+        existing.setExpirationDate(LocalDateTime.now().plusDays(1));
+        existing.setPublished(true);
+        existing.setRedeemed(false);
+        repository.save(existing);
+
+        String jsonRequest = """
+                [
+                    {"code": "BAT-001", "description": "Lote 1", "discountValue": 10, "expirationDate": "2030-01-01T12:00:00.000Z"},
+                    {"code": "bat001", "description": "Repetido", "discountValue": 10, "expirationDate": "2030-01-01T12:00:00.000Z"},
+                    {"code": "BAT03", "description": "Curto", "discountValue": 10, "expirationDate": "2030-01-01T12:00:00.000Z"},
+                    {"code": "BAT003", "description": "Existente", "discountValue": 10, "expirationDate": "2030-01-01T12:00:00.000Z"},
+                    {"code": "BAT004", "description": "Lote 4", "discountValue": 0.1, "expirationDate": "2030-01-01T12:00:00.000Z"}
+                ]
+                """;
+
+        mockMvc.perform(post("/coupon/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(4))
+                .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.items[0].code").value("BAT001"))
+                .andExpect(jsonPath("$.items[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.items[2].status").value("REJECTED"))
+                .andExpect(jsonPath("$.items[3].status").value("REJECTED"))
+                .andExpect(jsonPath("$.items[4].status").value("REJECTED"));
+    }
+
+    @Test
+    @DisplayName("Deve criar cupons em lote a partir de NDJSON")
+    void shouldCreateCouponsInBatchFromNdjson() throws Exception {
+        String ndjson = """
+                {"code": "NDJ001", "description": "Linha 1", "discountValue": 10, "expirationDate": "2030-01-01T12:00:00.000Z"}
+                {"code": "NDJ002", "description": "Linha 2"
+                {"code": "NDJ003", "description": "Linha 3", "discountValue": 10, "expirationDate": "2030-01-01T12:00:00.000Z"}
+                """;
+
+        mockMvc.perform(post("/coupon/batch")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.items[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.items[2].code").value("NDJ003"));
+    }
+
+    @Test
+    @DisplayName("Deve buscar um cupom pelo código normalizado")
+    void shouldGetCouponByCode() throws Exception {
+        String jsonRequest = """
+                {
+                    "code": "COD-123",
+                    "description": "Cupom para busca por código",
+                    "discountValue": 7.5,
+                    "expirationDate": "2030-01-01T12:00:00.000Z",
+                    "published": true
+                }
+                """;
+
+        mockMvc.perform(post("/coupon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/coupon/code/cod123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("COD123"));
+
+        mockMvc.perform(get("/coupon/code/NOP999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve resgatar um cupom uma única vez")
+    void shouldRedeemCouponOnlyOnce() throws Exception {
+        Coupon coupon = new Coupon();
+        coupon.setCode("RED123");
+        coupon.setDescription("Cupom para resgate");
+        coupon.setDiscountValue(new BigDecimal("10.0"));
+        coupon.setStatus(CouponStatus.ACTIVE);
+        coupon.setExpirationDate(LocalDateTime.now().plusDays(1));
+        coupon.setPublished(true);
+        coupon.setRedeemed(false);
+        coupon = repository.save(coupon);
+
+        mockMvc.perform(post("/coupon/" + coupon.getId() + "/redeem"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.redeemed").value(true));
+
+        mockMvc.perform(post("/coupon/code/red-123/redeem"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Deve listar cupons filtrados com paginação por cursor")
+    void shouldListCouponsWithCursorPagination() throws Exception {
+        for (int day = 1; day <= 3; day++) {
+            Coupon coupon = new Coupon();
+            coupon.setCode("LST00" + day);
+            coupon.setDescription("Cupom para listagem");
+            coupon.setDiscountValue(new BigDecimal("5.0"));
+            coupon.setStatus(CouponStatus.ACTIVE);
+            coupon.setExpirationDate(LocalDateTime.of(2041, 1, day, 12, 0));
+            coupon.setPublished(true);
+            coupon.setRedeemed(false);
+            repository.save(coupon);
+        }
+
+        MvcResult firstPage = mockMvc.perform(get("/coupon")
+                        .param("status", "ACTIVE")
+                        .param("expiresFrom", "2041-01-01T00:00:00")
+                        .param("expiresTo", "2042-01-01T00:00:00")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].code").value("LST001"))
+                .andExpect(jsonPath("$.items[1].code").value("LST002"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn();
+
+        String cursor = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+        assertFalse(cursor.isBlank());
+
+        mockMvc.perform(get("/coupon")
+                        .param("status", "ACTIVE")
+                        .param("expiresFrom", "2041-01-01T00:00:00")
+                        .param("expiresTo", "2042-01-01T00:00:00")
+                        .param("size", "2")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].code").value("LST003"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/coupon").param("cursor", "%%%"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve exportar os cupons em CSV via streaming")
+    void shouldExportCouponsAsCsv() throws Exception {
+        Coupon coupon = new Coupon();
+        coupon.setCode("EXP123");
+        coupon.setDescription("Exportação, com vírgula");
+        coupon.setDiscountValue(new BigDecimal("12.5"));
+        coupon.setStatus(CouponStatus.ACTIVE);
+        coupon.setExpirationDate(LocalDateTime.of(2031, 5, 10, 8, 30));
+        coupon.setPublished(true);
+        coupon.setRedeemed(false);
+        coupon = repository.save(coupon);
+
+        MvcResult result = mockMvc.perform(get("/coupon/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String csv = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"coupons.csv\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        assertTrue(csv.startsWith("id,code,description,discountValue,expirationDate,published,redeemed,status\n"));
+        assertTrue(csv.contains(coupon.getId() + ",EXP123,\"Exportação, com vírgula\",12.50,2031-05-10T08:30:00.000Z,true,false,ACTIVE"));
+    }
+
+    @Test
+    @DisplayName("Deve repetir a resposta original para a mesma chave de idempotência")
+    void shouldReplayIdempotentCreate() throws Exception {
+        String jsonRequest = """
+                {
+                    "code": "IDM001",
+                    "description": "Cupom idempotente",
+                    "discountValue": 5,
+                    "expirationDate": "2030-01-01T12:00:00.000Z",
+                    "published": true
+                }
+                """;
+
+        MvcResult first = mockMvc.perform(post("/coupon")
+                        .header("Idempotency-Key", "idm-001")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn();
+        String id = JsonPath.read(first.getResponse().getContentAsString(), "$.id");
+
+        mockMvc.perform(post("/coupon")
+                        .header("Idempotency-Key", "idm-001")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(id));
+
+        mockMvc.perform(post("/coupon")
+                        .header("Idempotency-Key", "idm-001")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest.replace("Cupom idempotente", "Outro conteúdo")))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    @Test
+    @DisplayName("Deve isolar a mesma chave de idempotência entre clientes diferentes")
+    void shouldScopeIdempotencyKeyByClient() throws Exception {
+        String jsonRequest = """
+                {
+                    "code": "%s",
+                    "description": "Cupom idempotente por cliente",
+                    "discountValue": 5,
+                    "expirationDate": "2030-01-01T12:00:00.000Z",
+                    "published": true
+                }
+                """;
+
+        MvcResult first = mockMvc.perform(post("/coupon")
+                        .header("Idempotency-Key", "idm-shared")
+                        .with(remoteAddr("10.0.0.1"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest.formatted("IDM101")))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String id = JsonPath.read(first.getResponse().getContentAsString(), "$.id");
+
+        mockMvc.perform(post("/coupon")
+                        .header("Idempotency-Key", "idm-shared")
+                        .with(remoteAddr("10.0.0.2"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest.formatted("IDM102")))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andExpect(jsonPath("$.code").value("IDM102"))
+                .andExpect(jsonPath("$.id").value(not(id)));
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar código duplicado com 409 e código de erro específico")
+    void shouldRejectDuplicateCode() throws Exception {
+        String jsonRequest = """
+                {
+                    "code": "DUP001",
+                    "description": "Cupom duplicado",
+                    "discountValue": 5,
+                    "expirationDate": "2030-01-01T12:00:00.000Z",
+                    "published": true
+                }
+                """;
+
+        mockMvc.perform(post("/coupon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/coupon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("DUPLICATE_COUPON_CODE"));
+    }
+
+    @Test
+    @DisplayName("Deve gerar cupons com códigos únicos do servidor")
+    void shouldGenerateCouponsWithServerCodes() throws Exception {
+        String jsonRequest = """
+                {
+                    "quantity": 200,
+                    "description": "Campanha gerada",
+                    "discountValue": 7.5,
+                    "expirationDate": "2030-01-01T12:00:00.000Z",
+                    "published": true
+                }
+                """;
+
+        MvcResult result = mockMvc.perform(post("/coupon/generate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(200))
+                .andExpect(jsonPath("$.created").value(200))
+                .andReturn();
+
+        List<String> codes = JsonPath.read(result.getResponse().getContentAsString(), "$.items[*].code");
+        assertEquals(200, new HashSet<>(codes).size());
+        assertTrue(codes.stream().allMatch(code -> code.matches("[A-Z0-9]{6}")));
+
+        mockMvc.perform(get("/coupon/code/" + codes.get(0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("Campanha gerada"));
+    }
+
+    @Test
+    @DisplayName("Deve negociar CBOR e Smile no GET por ID com payload menor que o JSON")
+    void shouldServeBinaryFormatsById() throws Exception {
+        Coupon coupon = new Coupon();
+        coupon.setCode("BIN123");
+        coupon.setDescription("Cupom binário");
+        coupon.setDiscountValue(new BigDecimal("12.50"));
+        coupon.setStatus(CouponStatus.ACTIVE);
+        coupon.setExpirationDate(LocalDateTime.now().plusDays(1));
+        coupon.setPublished(true);
+        coupon.setRedeemed(false);
+        coupon = repository.save(coupon);
+
+        byte[] json = mockMvc.perform(get("/coupon/" + coupon.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        for (int repeat = 0; repeat < 2; repeat++) {
+            byte[] cbor = mockMvc.perform(get("/coupon/" + coupon.getId()).accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            JsonNode decoded = new CBORMapper().readTree(cbor);
+            assertEquals("BIN123", decoded.get("code").asText());
+            assertEquals(0, new BigDecimal("12.50").compareTo(decoded.get("discountValue").decimalValue()));
+            assertTrue(cbor.length < json.length, "CBOR " + cbor.length + " bytes, JSON " + json.length + " bytes");
+        }
+
+        byte[] smile = mockMvc.perform(get("/coupon/" + coupon.getId()).accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals("BIN123", new SmileMapper().readTree(smile).get("code").asText());
+    }
+
+    @Test
+    @DisplayName("Deve avaliar códigos e ids em lote com um veredito por item, na ordem recebida")
+    void shouldEvaluateCartCoupons() throws Exception {
+        String usable = createCoupon("EVL001", true);
+        createCoupon("EVL002", false);
+        String redeemed = createCoupon("EVL003", true);
+        mockMvc.perform(post("/coupon/" + redeemed + "/redeem")).andExpect(status().isOk());
+
+        Coupon expired = new Coupon();
+        expired.setCode("EVL004");
+        expired.setDescription("Cupom vencido");
+        expired.setDiscountValue(new BigDecimal("3.00"));
+        expired.setStatus(CouponStatus.ACTIVE);
+        expired.setExpirationDate(LocalDateTime.now().minusDays(1));
+        expired.setPublished(true);
+        expired.setRedeemed(false);
+        expired = repository.save(expired);
+
+        String body = """
+                {
+                    "codes": ["evl-001", "EVL002", "EVL003", "ZZ", "EVL999"],
+                    "ids": ["%s", "%s", "%s"]
+                }
+                """.formatted(expired.getId(), usable, UUID.randomUUID());
+
+        mockMvc.perform(post("/coupon/evaluate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usable").value(2))
+                .andExpect(jsonPath("$.results[0].code").value("EVL001"))
+                .andExpect(jsonPath("$.results[0].verdict").value("USABLE"))
+                .andExpect(jsonPath("$.results[0].discountValue").value(7.5))
+                .andExpect(jsonPath("$.results[1].verdict").value("NOT_PUBLISHED"))
+                .andExpect(jsonPath("$.results[1].discountValue").doesNotExist())
+                .andExpect(jsonPath("$.results[2].verdict").value("REDEEMED"))
+                .andExpect(jsonPath("$.results[3].verdict").value("INVALID_CODE"))
+                .andExpect(jsonPath("$.results[4].verdict").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.results[5].verdict").value("EXPIRED"))
+                .andExpect(jsonPath("$.results[6].id").value(usable))
+                .andExpect(jsonPath("$.results[6].verdict").value("USABLE"))
+                .andExpect(jsonPath("$.results[7].verdict").value("NOT_FOUND"));
+
+        mockMvc.perform(post("/coupon/evaluate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve avaliar código criado fora desta instância (sem índice nem filtro de Bloom locais)")
+    void shouldEvaluateCodeCreatedElsewhere() throws Exception {
+        Coupon coupon = new Coupon();
+        coupon.setCode("EVX001");
+        coupon.setDescription("Cupom criado por outra instância");
+        coupon.setDiscountValue(new BigDecimal("4.00"));
+        coupon.setStatus(CouponStatus.ACTIVE);
+        coupon.setExpirationDate(LocalDateTime.now().plusDays(1));
+        coupon.setPublished(true);
+        coupon.setRedeemed(false);
+        repository.save(coupon);
+
+        mockMvc.perform(post("/coupon/evaluate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"codes\": [\"EVX001\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usable").value(1))
+                .andExpect(jsonPath("$.results[0].verdict").value("USABLE"))
+                .andExpect(jsonPath("$.results[0].id").value(coupon.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Deve devolver 304 com If-None-Match e recusar delete com If-Match desatualizado")
+    void shouldHonorConditionalRequests() throws Exception {
+        String id = createCoupon("ETG001", true);
+
+        String etag = mockMvc.perform(get("/coupon/" + id))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/coupon/" + id).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/coupon/" + id).accept(MediaType.APPLICATION_CBOR).header("If-None-Match", "\"0.cbor\""))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/coupon/" + id + "/redeem")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/coupon/" + id).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.redeemed").value(true))
+                .andExpect(jsonPath("$.version").doesNotExist());
+
+        mockMvc.perform(delete("/coupon/" + id).header("If-Match", etag))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value("PRECONDITION_FAILED"));
+        mockMvc.perform(delete("/coupon/" + id).header("If-Match", "\"1\""))
+                .andExpect(status().isNoContent());
+    }
+
+    private String createCoupon(String code, boolean published) throws Exception {
+        String request = """
+                {
+                    "code": "%s",
+                    "description": "Cupom do carrinho",
+                    "discountValue": 7.5,
+                    "expirationDate": "2030-01-01T12:00:00.000Z",
+                    "published": %s
+                }
+                """.formatted(code, published);
+        MvcResult result = mockMvc.perform(post("/coupon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.id");
+    }
+}
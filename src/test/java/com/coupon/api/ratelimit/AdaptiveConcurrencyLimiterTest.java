@@ -0,0 +1,58 @@
+package com.coupon.api.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Deve reduzir o limite de concorrência com latência alta e recusar o excedente")
+    void shouldShrinkConcurrencyLimitOnSlowResponses() {
+        long now = 1_000 * SECOND;
+        long target = TimeUnit.MILLISECONDS.toNanos(100);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 20, target, 0.5, now);
+
+        assertTrue(limiter.tryAcquire());
+        limiter.release(2 * target, true, now);
+        assertEquals(5, limiter.limit());
+
+        // Respostas lentas da mesma janela não reduzem de novo
+        assertTrue(limiter.tryAcquire());
+        limiter.release(2 * target, true, now + 1);
+        assertEquals(5, limiter.limit());
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertFalse(limiter.tryAcquire());
+        assertEquals(5, limiter.inFlight());
+    }
+
+    @Test
+    @DisplayName("Deve crescer o limite só quando está sendo usado e a latência está dentro do alvo")
+    void shouldGrowLimitWhenSaturatedAndFast() {
+        long now = 1_000 * SECOND;
+        long target = TimeUnit.MILLISECONDS.toNanos(100);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 2, 20, target, 0.5, now);
+
+        assertTrue(limiter.tryAcquire());
+        limiter.release(target / 2, true, now);
+        assertEquals(4, limiter.limit());
+
+        for (int round = 0; round < 8; round++) {
+            for (int i = 0; i < limiter.limit(); i++) {
+                assertTrue(limiter.tryAcquire());
+            }
+            for (int i = limiter.inFlight(); i > 0; i--) {
+                limiter.release(target / 2, true, now);
+            }
+        }
+        assertTrue(limiter.limit() > 4);
+    }
+}
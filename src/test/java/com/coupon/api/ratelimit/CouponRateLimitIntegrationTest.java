@@ -0,0 +1,75 @@
+package com.coupon.api.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "coupon.rate-limit.enabled=true",
+        "coupon.rate-limit.client-header=X-Client-Id",
+        "coupon.rate-limit.endpoints.read.permits-per-second=0.01",
+        "coupon.rate-limit.endpoints.read.burst=2",
+        "coupon.rate-limit.concurrency.target-latency=1ns"
+})
+@AutoConfigureMockMvc
+class CouponRateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Deve responder 429 com Retry-After quando o cliente esgota o bucket, sem afetar outros clientes")
+    void shouldRejectClientOverLimitWithRetryAfter() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        mockMvc.perform(get("/coupon/{id}", id).header("X-Client-Id", "scanner")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/coupon/{id}", id).header("X-Client-Id", "scanner")).andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/coupon/{id}", id).header("X-Client-Id", "scanner"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.code").value("RATE_LIMITED"));
+
+        mockMvc.perform(get("/coupon/{id}", id).header("X-Client-Id", "outro-cliente"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Não deve reduzir o limite de concorrência pela latência de endpoints lentos por natureza")
+    void shouldNotSampleLatencyOfBulkEndpoints() throws Exception {
+        // Com alvo de 1ns toda resposta amostrada conta como lenta
+        double before = concurrencyLimit();
+        mockMvc.perform(post("/coupon/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"code": "RLB001", "description": "Lote", "discountValue": 10,
+                                  "expirationDate": "2035-01-01T00:00:00.000Z", "published": true}]
+                                """))
+                .andExpect(status().isOk());
+        assertEquals(before, concurrencyLimit());
+
+        mockMvc.perform(get("/coupon/{id}", UUID.randomUUID()).header("X-Client-Id", "leitor"))
+                .andExpect(status().isNotFound());
+        assertTrue(concurrencyLimit() < before);
+    }
+
+    private double concurrencyLimit() {
+        return meterRegistry.get("coupon.concurrency.limit").gauge().value();
+    }
+}
@@ -0,0 +1,42 @@
+package com.coupon.api.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Deve liberar a rajada configurada e depois uma ficha por intervalo")
+    void shouldAllowBurstThenRefillAtRate() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(10, 3, now);
+
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(0, bucket.tryAcquire(now));
+
+        long wait = bucket.tryAcquire(now);
+        assertEquals(SECOND / 10, wait);
+
+        assertTrue(bucket.tryAcquire(now + wait - 1) > 0);
+        assertEquals(0, bucket.tryAcquire(now + wait));
+    }
+
+    @Test
+    @DisplayName("Não deve acumular fichas além da rajada durante a inatividade")
+    void shouldNotAccumulateBeyondBurst() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(10, 2, now);
+        long later = now + 60 * SECOND;
+
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertTrue(bucket.tryAcquire(later) > 0);
+    }
+}
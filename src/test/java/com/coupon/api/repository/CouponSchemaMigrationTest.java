@@ -0,0 +1,66 @@
+package com.coupon.api.repository;
+
+import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.dto.CouponBatchResponseDTO;
+import com.coupon.api.dto.CouponFilterDTO;
+import com.coupon.api.dto.CouponGenerateRequestDTO;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.service.CouponBatchService;
+import com.coupon.api.service.CouponService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Sobe como no profile prod: schema criado só pelas migrations, sem DDL do Hibernate
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:coupondb_flyway;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "coupon.warmup.enabled=true"
+})
+class CouponSchemaMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CouponService service;
+
+    @Autowired
+    private CouponBatchService batchService;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @Test
+    @DisplayName("Deve aplicar as migrations e atender as operações principais sobre o schema versionado")
+    void shouldServeCoreOperationsOnMigratedSchema() {
+        Integer applied = jdbcTemplate.queryForObject(
+                "select count(*) from \"flyway_schema_history\" where \"success\" = true", Integer.class);
+        assertTrue(applied >= 1);
+
+        CouponResponseDTO created = service.create(new CouponRequestDTO(
+                "MIG-001", "Cupom migrado", new BigDecimal("3.5"), LocalDateTime.now().plusDays(2), true));
+        assertEquals("MIG001", service.findByCode("mig001").code());
+
+        CouponBatchResponseDTO generated = batchService.generate(new CouponGenerateRequestDTO(
+                5, "Gerado", BigDecimal.ONE, LocalDateTime.now().plusDays(3), true));
+        assertEquals(5, generated.created());
+
+        List<CouponResponseDTO> page = repository.findPage(
+                new CouponFilterDTO(CouponStatus.ACTIVE, true, false, null, null), null, 10);
+        assertTrue(page.stream().anyMatch(coupon -> coupon.id().equals(created.id())));
+
+        service.delete(created.id());
+        assertEquals(CouponStatus.DELETED, repository.findById(created.id()).orElseThrow().getStatus());
+    }
+}
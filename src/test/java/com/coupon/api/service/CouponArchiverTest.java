@@ -0,0 +1,109 @@
+package com.coupon.api.service;
+
+import com.coupon.api.cache.CouponResponseCache;
+import com.coupon.api.domain.entity.Coupon;
+import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.domain.enums.CouponVerdict;
+import com.coupon.api.domain.enums.ExportFormat;
+import com.coupon.api.dto.CouponEvaluateRequestDTO;
+import com.coupon.api.dto.CouponEvaluateResponseDTO;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.repository.ArchivedCouponRepository;
+import com.coupon.api.repository.CouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "coupon.archive.retention=P1D")
+class CouponArchiverTest {
+
+    @Autowired
+    private CouponArchiver archiver;
+
+    @Autowired
+    private CouponService service;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @Autowired
+    private ArchivedCouponRepository archiveRepository;
+
+    @Autowired
+    private CouponResponseCache cache;
+
+    @Autowired
+    private CouponExportService exportService;
+
+    @Autowired
+    private CouponEvaluationService evaluationService;
+
+    @Test
+    @DisplayName("Deve arquivar só os deletados além da retenção e continuar encontrando-os por id")
+    void shouldArchiveOldDeletedCouponsAndKeepThemReadable() {
+        UUID old = createAndDelete("ARC001", LocalDateTime.now().minusDays(2));
+        UUID recent = createAndDelete("ARC002", LocalDateTime.now().minusHours(1));
+
+        assertTrue(archiver.archiveNow() >= 1);
+
+        assertFalse(repository.existsById(old));
+        assertTrue(archiveRepository.existsById(old));
+        assertTrue(repository.existsById(recent));
+
+        cache.evict(old);
+        assertEquals(CouponStatus.DELETED, service.findById(old).status());
+        assertEquals("ARC001", service.findById(old).code());
+    }
+
+    @Test
+    @DisplayName("Deve manter os cupons arquivados na exportação")
+    void shouldExportArchivedCoupons() {
+        UUID old = createAndDelete("ARC003", LocalDateTime.now().minusDays(2));
+        assertTrue(archiver.archiveNow() >= 1);
+        assertTrue(archiveRepository.existsById(old));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(ExportFormat.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.lines().anyMatch(line -> line.startsWith(old + ",ARC003,") && line.endsWith(",DELETED")));
+    }
+
+    @Test
+    @DisplayName("Deve avaliar cupons arquivados como DELETED, igual ao GET por id")
+    void shouldEvaluateArchivedCouponsAsDeleted() {
+        UUID old = createAndDelete("ARC004", LocalDateTime.now().minusDays(2));
+        UUID byCode = createAndDelete("ARC005", LocalDateTime.now().minusDays(2));
+        assertTrue(archiver.archiveNow() >= 2);
+        cache.evict(old);
+
+        CouponEvaluateResponseDTO response = evaluationService.evaluate(
+                new CouponEvaluateRequestDTO(List.of("ARC005"), List.of(old)));
+
+        assertEquals(0, response.usable());
+        assertEquals(CouponVerdict.DELETED, response.results().get(0).verdict());
+        assertEquals(byCode, response.results().get(0).id());
+        assertEquals(CouponVerdict.DELETED, response.results().get(1).verdict());
+        assertEquals(old, response.results().get(1).id());
+    }
+
+    private UUID createAndDelete(String code, LocalDateTime deletedAt) {
+        UUID id = service.create(new CouponRequestDTO(
+                code, "Cupom arquivável", new BigDecimal("4.0"), LocalDateTime.now().plusDays(5), true)).id();
+        service.delete(id);
+        Coupon coupon = repository.findById(id).orElseThrow();
+        coupon.setDeletedAt(deletedAt);
+        repository.save(coupon);
+        return id;
+    }
+}
@@ -0,0 +1,78 @@
+package com.coupon.api.service;
+
+import com.coupon.api.cache.CouponCodeIndex;
+import com.coupon.api.domain.exception.BusinessException;
+import com.coupon.api.domain.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CouponCodeNormalizerTest {
+
+    // Letras ASCII, dígitos, pontuação, espaços, letras não ASCII (incluindo as do locale turco) e pares substitutos
+    private static final String[] ALPHABET = {
+            "a", "z", "A", "Z", "0", "9", "m", "Q", "5", "@", "#", "-", " ", "\t", "_", ".",
+            "é", "ß", "ı", "İ", "ñ", "Ω", "٣", "ｚ", "😀"
+    };
+    private static final int SAMPLES = 20_000;
+
+    private final CouponCodeNormalizer normalizer = new CouponCodeNormalizer();
+
+    @Test
+    @DisplayName("Deve normalizar exatamente como a implementação original com Regex")
+    void shouldMatchLegacyRegexNormalization() {
+        Random random = new Random(7);
+        for (int i = 0; i < SAMPLES; i++) {
+            String input = randomInput(random);
+            assertEquals(legacy(input), normalizer.normalize(input), () -> "Entrada: " + input);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve validar o tamanho e compactar o código como a combinação normalizar + validar")
+    void shouldValidateAndPackLikeLegacy() {
+        Random random = new Random(11);
+        for (int i = 0; i < SAMPLES; i++) {
+            String input = randomInput(random);
+            String expected = legacy(input);
+
+            if (expected.length() == CouponCodeNormalizer.CODE_LENGTH) {
+                assertEquals(expected, normalizer.normalizeAndValidate(input));
+                assertEquals(CouponCodeIndex.pack(expected), normalizer.normalizeToPacked(input));
+            } else {
+                BusinessException exception = assertThrows(BusinessException.class, () -> normalizer.normalizeAndValidate(input));
+                assertEquals(ErrorCode.INVALID_COUPON_CODE, exception.getCode());
+                assertEquals(CouponCodeIndex.INVALID, normalizer.normalizeToPacked(input));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve tratar código nulo como vazio e devolver a mesma instância quando nada muda")
+    void shouldHandleNullAndAlreadyNormalizedCodes() {
+        assertEquals("", normalizer.normalize(null));
+        assertThrows(BusinessException.class, () -> normalizer.normalizeAndValidate(null));
+
+        String code = "ABC123";
+        assertSame(code, normalizer.normalize(code));
+        assertSame(code, normalizer.normalizeAndValidate(code));
+    }
+
+    private static String legacy(String code) {
+        return code.replaceAll("[^a-zA-Z0-9]", "").toUpperCase(Locale.ROOT);
+    }
+
+    // Tamanhos concentrados em torno de 6 caracteres válidos, onde a validação muda de resultado
+    private static String randomInput(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(14);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+        return builder.toString();
+    }
+}
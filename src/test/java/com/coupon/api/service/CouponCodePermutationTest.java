@@ -0,0 +1,57 @@
+package com.coupon.api.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CouponCodePermutationTest {
+
+    // 36^3: mesmo formato do domínio real (não potência de 2, exige cycle-walking), mas enumerável
+    private static final int SMALL_DOMAIN = 46_656;
+
+    @Test
+    @DisplayName("Deve ser uma bijeção sobre o domínio")
+    void shouldBeABijection() {
+        CouponCodePermutation permutation = new CouponCodePermutation(SMALL_DOMAIN, "test-key");
+        BitSet seen = new BitSet(SMALL_DOMAIN);
+
+        for (int i = 0; i < SMALL_DOMAIN; i++) {
+            long value = permutation.permute(i);
+            assertTrue(value >= 0 && value < SMALL_DOMAIN, "fora do domínio: " + value);
+            assertFalse(seen.get((int) value), "valor repetido: " + value);
+            seen.set((int) value);
+        }
+        assertEquals(SMALL_DOMAIN, seen.cardinality());
+    }
+
+    @Test
+    @DisplayName("Deve depender da chave e ser estável para a mesma chave")
+    void shouldDependOnKey() {
+        CouponCodePermutation first = new CouponCodePermutation(CouponCodeGenerator.CODE_SPACE, "key-a");
+        CouponCodePermutation same = new CouponCodePermutation(CouponCodeGenerator.CODE_SPACE, "key-a");
+        CouponCodePermutation other = new CouponCodePermutation(CouponCodeGenerator.CODE_SPACE, "key-b");
+
+        int differences = 0;
+        for (long i = 0; i < 1_000; i++) {
+            long value = first.permute(i);
+            assertTrue(value < CouponCodeGenerator.CODE_SPACE);
+            assertEquals(value, same.permute(i));
+            if (value != other.permute(i)) {
+                differences++;
+            }
+        }
+        assertTrue(differences > 990);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar valores fora do domínio")
+    void shouldRejectValuesOutsideDomain() {
+        CouponCodePermutation permutation = new CouponCodePermutation(SMALL_DOMAIN, "test-key");
+
+        assertThrows(IllegalArgumentException.class, () -> permutation.permute(-1));
+        assertThrows(IllegalArgumentException.class, () -> permutation.permute(SMALL_DOMAIN));
+    }
+}
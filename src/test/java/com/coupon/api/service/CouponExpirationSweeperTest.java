@@ -0,0 +1,61 @@
+package com.coupon.api.service;
+
+import com.coupon.api.domain.entity.Coupon;
+import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.repository.CouponRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CouponExpirationSweeperTest {
+
+    @Autowired
+    private CouponExpirationSweeper sweeper;
+
+    @Autowired
+    private CouponService service;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Deve inativar cupons expirados e invalidar o cache de leitura")
+    void shouldDeactivateExpiredCouponsAndEvictCache() {
+        UUID expired = save("EXPD01", LocalDateTime.now().minusDays(1));
+        UUID valid = save("EXPD02", LocalDateTime.now().plusDays(1));
+
+        assertEquals(CouponStatus.ACTIVE, service.findById(expired).status());
+
+        double processedBefore = meterRegistry.get("coupon.expiration.processed").counter().count();
+        int deactivated = sweeper.sweepNow();
+        assertTrue(deactivated >= 1);
+        assertEquals(processedBefore + deactivated, meterRegistry.get("coupon.expiration.processed").counter().count());
+
+        assertEquals(CouponStatus.INACTIVE, service.findById(expired).status());
+        assertEquals(CouponStatus.ACTIVE, service.findById(valid).status());
+    }
+
+    private UUID save(String code, LocalDateTime expirationDate) {
+        Coupon coupon = new Coupon();
+        coupon.setCode(code);
+        coupon.setDescription("Cupom para varredura");
+        coupon.setDiscountValue(new BigDecimal("5.0"));
+        coupon.setStatus(CouponStatus.ACTIVE);
+        coupon.setExpirationDate(expirationDate);
+        coupon.setPublished(true);
+        coupon.setRedeemed(false);
+        return repository.save(coupon).getId();
+    }
+}
@@ -0,0 +1,85 @@
+package com.coupon.api.service;
+
+import com.coupon.api.configuration.CouponOutboxProperties;
+import com.coupon.api.domain.enums.CouponEventType;
+import com.coupon.api.dto.CouponRequestDTO;
+import com.coupon.api.dto.CouponResponseDTO;
+import com.coupon.api.event.CouponEvent;
+import com.coupon.api.event.CouponEventSink;
+import com.coupon.api.repository.CouponOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Banco próprio e relay agendado desligado: só o relay criado no teste drena o outbox
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:coupondb_outbox;DB_CLOSE_DELAY=-1",
+        "coupon.outbox.enabled=false"
+})
+class CouponOutboxRelayTest {
+
+    @Autowired
+    private CouponService service;
+
+    @Autowired
+    private CouponOutboxRepository outboxRepository;
+
+    @Autowired
+    private CouponOutboxProperties properties;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Deve entregar os eventos na ordem de gravação e removê-los do outbox")
+    void shouldDeliverEventsInOrderAndRemoveThem() {
+        CouponResponseDTO coupon = service.create(request("OBX001"));
+        service.redeem(coupon.id());
+        service.delete(coupon.id());
+
+        List<CouponEvent> delivered = new ArrayList<>();
+        relay(delivered::addAll).relayNow();
+
+        List<CouponEvent> events = delivered.stream().filter(event -> event.couponId().equals(coupon.id())).toList();
+        assertEquals(List.of(CouponEventType.CREATED, CouponEventType.REDEEMED, CouponEventType.DELETED),
+                events.stream().map(CouponEvent::type).toList());
+        assertTrue(events.stream().allMatch(event -> event.code().equals("OBX001")));
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve manter os eventos no outbox quando o destino falhar")
+    void shouldKeepEventsWhenSinkFails() {
+        CouponResponseDTO coupon = service.create(request("OBX002"));
+
+        int delivered = relay(events -> {
+            throw new IllegalStateException("destino fora do ar");
+        }).relayNow();
+
+        assertEquals(0, delivered);
+        assertTrue(outboxRepository.findAll().stream().anyMatch(event -> event.getCouponId().equals(coupon.id())));
+
+        List<CouponEvent> retried = new ArrayList<>();
+        relay(retried::addAll).relayNow();
+        assertTrue(retried.stream().anyMatch(event -> event.couponId().equals(coupon.id())));
+        assertEquals(0, outboxRepository.count());
+    }
+
+    private CouponOutboxRelay relay(CouponEventSink sink) {
+        return new CouponOutboxRelay(outboxRepository, sink, properties, transactionManager, new SimpleMeterRegistry());
+    }
+
+    private static CouponRequestDTO request(String code) {
+        return new CouponRequestDTO(code, "Cupom do outbox", new BigDecimal("7.5"), LocalDateTime.now().plusDays(1), true);
+    }
+}
@@ -0,0 +1,82 @@
+package com.coupon.api.service;
+
+import com.coupon.api.domain.entity.Coupon;
+import com.coupon.api.domain.enums.CouponStatus;
+import com.coupon.api.domain.exception.BusinessException;
+import com.coupon.api.domain.exception.ErrorCode;
+import com.coupon.api.repository.CouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CouponRedemptionConcurrencyTest {
+
+    private static final int THREADS = 300;
+
+    @Autowired
+    private CouponService service;
+
+    @Autowired
+    private CouponRepository repository;
+
+    @Test
+    @DisplayName("Deve permitir um único resgate quando centenas de threads disputam o mesmo cupom")
+    void shouldRedeemExactlyOnceUnderContention() throws Exception {
+        Coupon coupon = new Coupon();
+        coupon.setCode("RACE01");
+        coupon.setDescription("Cupom disputado");
+        coupon.setDiscountValue(new BigDecimal("15.0"));
+        coupon.setStatus(CouponStatus.ACTIVE);
+        coupon.setExpirationDate(LocalDateTime.now().plusDays(1));
+        coupon.setPublished(true);
+        coupon.setRedeemed(false);
+        UUID id = repository.save(coupon).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger redeemed = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    service.redeem(id);
+                    redeemed.incrementAndGet();
+                } catch (BusinessException ex) {
+                    if (ex.getCode() == ErrorCode.COUPON_ALREADY_REDEEMED) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(1, redeemed.get());
+        assertEquals(THREADS - 1, conflicts.get());
+        assertTrue(repository.findById(id).orElseThrow().getRedeemed());
+    }
+}
@@ -1,22 +1,36 @@
 package com.coupon.api.service;
 
+import com.coupon.api.cache.CouponCodeBloomFilter;
+import com.coupon.api.cache.CouponCodeIndex;
+import com.coupon.api.cache.CouponResponseCache;
+import com.coupon.api.configuration.CouponBloomFilterProperties;
+import com.coupon.api.configuration.CouponCacheProperties;
 import com.coupon.api.domain.entity.Coupon;
+import com.coupon.api.domain.enums.CouponEventType;
 import com.coupon.api.domain.enums.CouponStatus;
 import com.coupon.api.domain.exception.BusinessException;
+import com.coupon.api.domain.exception.ErrorCode;
 import com.coupon.api.dto.CouponRequestDTO;
 import com.coupon.api.dto.CouponResponseDTO;
 import com.coupon.api.mapper.CouponMapper;
+import com.coupon.api.metrics.CouponMetrics;
+import com.coupon.api.repository.ArchivedCouponRepository;
 import com.coupon.api.repository.CouponRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,9 +46,33 @@ class CouponServiceTest {
     @Mock
     private CouponRepository repository;
 
+    @Mock
+    private ArchivedCouponRepository archiveRepository;
+
     @Mock
     private CouponMapper mapper;
 
+    @Spy
+    private CouponResponseCache cache = new CouponResponseCache(
+            new CouponCacheProperties(100, Duration.ofMinutes(10), Duration.ofSeconds(30)));
+
+    @Spy
+    private CouponCodeIndex codeIndex = new CouponCodeIndex();
+
+    @Spy
+    private CouponCodeBloomFilter bloomFilter = new CouponCodeBloomFilter(new CouponBloomFilterProperties(1000, 0.01));
+
+    @Spy
+    private CouponCodeNormalizer normalizer = new CouponCodeNormalizer();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private CouponMetrics metrics = new CouponMetrics(meterRegistry);
+
+    @Mock
+    private CouponOutbox outbox;
+
     @Test
     @DisplayName("Deve criar cupom normalizando código com caracteres especiais")
     void shouldCreateCouponNormalizeCode() {
@@ -68,6 +106,7 @@ class CouponServiceTest {
         assertEquals("ABC123", response.code());
         assertEquals("ABC123", couponEntity.getCode());
         verify(repository, times(1)).save(any(Coupon.class));
+        verify(outbox).append(CouponEventType.CREATED, savedCoupon.getId(), "ABC123");
     }
 
     @Test
@@ -86,6 +125,7 @@ class CouponServiceTest {
         });
 
         assertEquals("O código do cupom deve ter exatamente 6 caracteres alfanuméricos após a normalização.", exception.getMessage());
+        assertEquals(ErrorCode.INVALID_COUPON_CODE, exception.getCode());
         verify(repository, never()).save(any());
     }
 
@@ -98,12 +138,15 @@ class CouponServiceTest {
         coupon.setStatus(CouponStatus.ACTIVE);
 
         when(repository.findById(id)).thenReturn(Optional.of(coupon));
+        when(mapper.toResponse(coupon)).thenReturn(new CouponResponseDTO(
+                id, "DEL123", "Desc", BigDecimal.TEN, LocalDateTime.now(), true, false, CouponStatus.DELETED
+        ));
 
         service.delete(id);
 
         assertEquals(CouponStatus.DELETED, coupon.getStatus());
         assertNotNull(coupon.getDeletedAt());
-        verify(repository, times(1)).save(coupon);
+        verify(repository, times(1)).saveAndFlush(coupon);
     }
 
     @Test
@@ -121,6 +164,216 @@ class CouponServiceTest {
         });
 
         assertEquals("Não deve ser possível deletar um cupom já deletado.", exception.getMessage());
+        assertEquals(ErrorCode.COUPON_ALREADY_DELETED, exception.getCode());
         verify(repository, never()).save(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve recusar delete quando o If-Match não corresponde à versão atual")
+    void shouldRejectDeleteWithStaleVersion() {
+        UUID id = UUID.randomUUID();
+        Coupon coupon = new Coupon();
+        coupon.setId(id);
+        coupon.setStatus(CouponStatus.ACTIVE);
+        coupon.setVersion(2L);
+
+        when(repository.findById(id)).thenReturn(Optional.of(coupon));
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> service.delete(id, Set.of(1L)));
+
+        assertEquals(ErrorCode.PRECONDITION_FAILED, exception.getCode());
+        assertEquals(CouponStatus.ACTIVE, coupon.getStatus());
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Deve traduzir conflito de lock otimista no delete")
+    void shouldReportConcurrentModificationOnDelete() {
+        UUID id = UUID.randomUUID();
+        // Cada cenário com o seu cupom: o delete altera o status antes do flush que falha
+        Coupon first = activeCoupon(id);
+        Coupon second = activeCoupon(id);
+
+        when(repository.findById(id)).thenReturn(Optional.of(first), Optional.of(second));
+        when(repository.saveAndFlush(any(Coupon.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Coupon.class, id));
+
+        BusinessException withoutPrecondition = assertThrows(BusinessException.class, () -> service.delete(id));
+        BusinessException withPrecondition = assertThrows(BusinessException.class, () -> service.delete(id, Set.of(0L)));
+
+        assertEquals(ErrorCode.COUPON_CONCURRENTLY_MODIFIED, withoutPrecondition.getCode());
+        assertEquals(ErrorCode.PRECONDITION_FAILED, withPrecondition.getCode());
+        assertEquals(1, meterRegistry.get("coupon.operation").tag("operation", "delete").tag("outcome", "conflict").timer().count());
+        assertEquals(1, meterRegistry.get("coupon.operation").tag("operation", "delete").tag("outcome", "precondition_failed").timer().count());
+        assertEquals(0, meterRegistry.get("coupon.operation").tag("operation", "delete").tag("outcome", "error").timer().count());
+        verify(outbox, never()).append(any(), any(), any());
+    }
+
+    private static Coupon activeCoupon(UUID id) {
+        Coupon coupon = new Coupon();
+        coupon.setId(id);
+        coupon.setStatus(CouponStatus.ACTIVE);
+        coupon.setVersion(0L);
+        return coupon;
+    }
+
+    @Test
+    @DisplayName("Deve servir buscas repetidas a partir do cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        UUID id = UUID.randomUUID();
+        Coupon coupon = new Coupon();
+        coupon.setId(id);
+        CouponResponseDTO expectedResponse = new CouponResponseDTO(
+                id, "ABC123", "Desc", BigDecimal.TEN, LocalDateTime.now(), true, false, CouponStatus.ACTIVE
+        );
+
+        when(repository.findById(id)).thenReturn(Optional.of(coupon));
+        when(mapper.toResponse(coupon)).thenReturn(expectedResponse);
+
+        assertEquals(expectedResponse, service.findById(id));
+        assertEquals(expectedResponse, service.findById(id));
+
+        verify(repository, times(1)).findById(id);
+        assertEquals(1, cache.stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("Deve manter em cache a ausência de um cupom inexistente")
+    void shouldCacheMissingCoupon() {
+        UUID id = UUID.randomUUID();
+        when(repository.findById(id)).thenReturn(Optional.empty());
+
+        BusinessException first = assertThrows(BusinessException.class, () -> service.findById(id));
+        BusinessException second = assertThrows(BusinessException.class, () -> service.findById(id));
+
+        assertEquals(ErrorCode.COUPON_NOT_FOUND, first.getCode());
+        assertSame(first, second);
+        assertEquals(0, first.getStackTrace().length);
+
+        verify(repository, times(1)).findById(id);
+    }
+
+    @Test
+    @DisplayName("Deve buscar no arquivo quando o cupom não está mais na tabela quente")
+    void shouldFallBackToArchiveOnFindById() {
+        UUID id = UUID.randomUUID();
+        CouponResponseDTO archived = new CouponResponseDTO(
+                id, "ARC123", "Desc", BigDecimal.TEN, LocalDateTime.now(), true, false, CouponStatus.DELETED
+        );
+        when(repository.findById(id)).thenReturn(Optional.empty());
+        when(archiveRepository.findResponseById(id)).thenReturn(Optional.of(archived));
+
+        assertEquals(CouponStatus.DELETED, service.findById(id).status());
+
+        assertEquals(1, meterRegistry.get("coupon.db").tag("operation", "archive_find_by_id").timer().count());
+        BusinessException ex = assertThrows(BusinessException.class, () -> service.delete(id));
+        assertEquals(ErrorCode.COUPON_ALREADY_DELETED, ex.getCode());
+    }
+
+    @Test
+    @DisplayName("Deve guardar no cache o estado deletado após o delete")
+    void shouldCacheDeletedStateOnDelete() {
+        UUID id = UUID.randomUUID();
+        Coupon coupon = new Coupon();
+        coupon.setId(id);
+        coupon.setStatus(CouponStatus.ACTIVE);
+        CouponResponseDTO deleted = new CouponResponseDTO(
+                id, "DEL123", "Desc", BigDecimal.TEN, LocalDateTime.now(), true, false, CouponStatus.DELETED
+        );
+
+        when(repository.findById(id)).thenReturn(Optional.of(coupon));
+        when(mapper.toResponse(coupon)).thenReturn(deleted);
+
+        service.delete(id);
+
+        verify(cache).put(deleted);
+        assertEquals(CouponStatus.DELETED, service.findById(id).status());
+        verify(repository, times(1)).findById(id);
+    }
+
+    @Test
+    @DisplayName("Deve buscar pelo código normalizado usando o índice em memória")
+    void shouldFindByCodeUsingIndex() {
+        UUID id = UUID.randomUUID();
+        Coupon coupon = new Coupon();
+        coupon.setId(id);
+        CouponResponseDTO expectedResponse = new CouponResponseDTO(
+                id, "ABC123", "Desc", BigDecimal.TEN, LocalDateTime.now(), true, false, CouponStatus.ACTIVE
+        );
+        codeIndex.put("ABC123", id);
+
+        when(repository.findById(id)).thenReturn(Optional.of(coupon));
+        when(mapper.toResponse(coupon)).thenReturn(expectedResponse);
+
+        assertEquals(expectedResponse, service.findByCode("abc-123"));
+        verify(repository, never()).findLiveIdByCode(any());
+    }
+
+    @Test
+    @DisplayName("Deve registrar o resultado da operação no timer correspondente")
+    void shouldRecordOperationOutcome() {
+        UUID id = UUID.randomUUID();
+        when(repository.findById(id)).thenReturn(Optional.empty());
+
+        assertThrows(BusinessException.class, () -> service.findById(id));
+
+        assertEquals(1, meterRegistry.get("coupon.operation")
+                .tag("operation", "find_by_id")
+                .tag("outcome", "not_found")
+                .timer()
+                .count());
+        assertEquals(1, meterRegistry.get("coupon.db")
+                .tag("operation", "find_by_id")
+                .timer()
+                .count());
+        assertEquals(0, meterRegistry.get("coupon.operation")
+                .tag("operation", "find_by_id")
+                .tag("outcome", "found")
+                .timer()
+                .count());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar código duplicado antes do INSERT quando o filtro e o banco confirmam")
+    void shouldRejectDuplicateCodeBeforeInsert() {
+        bloomFilter.put("DUP123");
+        when(repository.existsByCode("DUP123")).thenReturn(true);
+        CouponRequestDTO request = new CouponRequestDTO(
+                "DUP-123",
+                "Duplicado",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                true
+        );
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> service.create(request));
+
+        assertEquals(ErrorCode.DUPLICATE_COUPON_CODE, exception.getCode());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar existência quando o filtro garante que o código é novo")
+    void shouldSkipExistenceQueryForUnknownCode() {
+        CouponRequestDTO request = new CouponRequestDTO(
+                "NEW123",
+                "Novo",
+                BigDecimal.ONE,
+                LocalDateTime.now().plusDays(1),
+                true
+        );
+        Coupon savedCoupon = new Coupon();
+        savedCoupon.setId(UUID.randomUUID());
+        savedCoupon.setCode("NEW123");
+        when(mapper.toEntity(request)).thenReturn(new Coupon());
+        when(repository.save(any(Coupon.class))).thenReturn(savedCoupon);
+        when(mapper.toResponse(savedCoupon)).thenReturn(new CouponResponseDTO(
+                savedCoupon.getId(), "NEW123", "Novo", BigDecimal.ONE, LocalDateTime.now(), true, false, CouponStatus.ACTIVE
+        ));
+
+        service.create(request);
+
+        verify(repository, never()).existsByCode(any());
+        assertTrue(bloomFilter.mightContain("NEW123"));
+    }
+}